@@ -0,0 +1,226 @@
+/*
+ *  Copyright 2026, TeamDev. All rights reserved.
+ *
+ *  Redistribution and use in source and/or binary forms, with or without
+ *  modification, must retain the above copyright notice and the following
+ *  disclaimer.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ *  "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ *  LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ *  A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ *  OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ *  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ *  LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *  DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *  THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ *  OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.teamdev.jxbrowser.examples;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import com.teamdev.jxbrowser.net.NetError;
+import com.teamdev.jxbrowser.net.UrlRequestJob;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Writes the response data of the URL request jobs asynchronously.
+ *
+ * <p>The jobs run on virtual threads if the Java runtime supports them, and on a fixed pool of
+ * threads otherwise. In both cases, at most the given number of jobs run at once, and the rest
+ * wait in the queue.
+ *
+ * <p>The job is completed when its writer returns, and is failed with {@link NetError#FAILED}
+ * if the writer throws or the executor is closed. The job that is not finished within the timeout
+ * is failed with {@link NetError#TIMED_OUT}, and its writer is interrupted.
+ */
+final class AsyncJobExecutor implements AutoCloseable {
+
+    private final ExecutorService executor;
+    private final ScheduledThreadPoolExecutor timer;
+    private final Semaphore permits;
+    private final Duration timeout;
+
+    /**
+     * The submitted jobs that are not finished yet.
+     */
+    private final Set<AsyncJob> unfinishedJobs = ConcurrentHashMap.newKeySet();
+
+    AsyncJobExecutor(int maxConcurrentJobs, Duration timeout) {
+        this.executor = newExecutor(maxConcurrentJobs);
+        this.timer = new ScheduledThreadPoolExecutor(1, daemonThreads("url-request-job-timer"));
+        // The timeouts of the finished jobs are cancelled and should not pile up in the queue.
+        this.timer.setRemoveOnCancelPolicy(true);
+        this.permits = new Semaphore(maxConcurrentJobs);
+        this.timeout = timeout;
+    }
+
+    /**
+     * Creates an executor that starts a virtual thread for every job if possible.
+     */
+    private static ExecutorService newExecutor(int maxConcurrentJobs) {
+        try {
+            // The virtual threads are available since Java 21, while the examples are compiled
+            // for Java 17, so the executor is created reflectively.
+            var factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(maxConcurrentJobs,
+                    daemonThreads("url-request-job"));
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        return runnable -> {
+            var thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Writes the response data of the given job with the given writer asynchronously.
+     *
+     * <p>If the executor is closed, the job is failed right away.
+     */
+    void submit(UrlRequestJob job, JobWriter writer) {
+        var asyncJob = new AsyncJob(job, writer);
+        try {
+            asyncJob.start();
+        } catch (RejectedExecutionException e) {
+            asyncJob.fail(NetError.FAILED);
+        }
+    }
+
+    /**
+     * Returns the number of the jobs waiting to be started.
+     */
+    int queueDepth() {
+        var queued = permits.getQueueLength();
+        if (executor instanceof ThreadPoolExecutor) {
+            queued += ((ThreadPoolExecutor) executor).getQueue().size();
+        }
+        return queued;
+    }
+
+    /**
+     * Stops the executor and fails all the unfinished jobs.
+     *
+     * <p>The jobs waiting in the queue are dropped by the executor without
+     * being started, so they are failed here.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        timer.shutdownNow();
+        for (var job : unfinishedJobs) {
+            job.fail(NetError.FAILED);
+        }
+    }
+
+    /**
+     * Writes the response data into a URL request job.
+     */
+    @FunctionalInterface
+    interface JobWriter {
+
+        /**
+         * Writes the response data into the given job without completing it.
+         */
+        void write(UrlRequestJob job) throws Exception;
+    }
+
+    /**
+     * A URL request job that is written asynchronously and finished exactly once.
+     */
+    private final class AsyncJob {
+
+        private final UrlRequestJob job;
+        private final JobWriter writer;
+        private final AtomicBoolean finished = new AtomicBoolean();
+        private volatile ScheduledFuture<?> timeoutTask;
+        private volatile Future<?> writeTask;
+
+        private AsyncJob(UrlRequestJob job, JobWriter writer) {
+            this.job = job;
+            this.writer = writer;
+        }
+
+        /**
+         * Schedules the timeout of the job and starts writing it.
+         */
+        void start() {
+            unfinishedJobs.add(this);
+            timeoutTask = timer.schedule(this::timeOut, timeout.toMillis(), MILLISECONDS);
+            writeTask = executor.submit(this::write);
+        }
+
+        private void write() {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                // The executor is closed before the job is started.
+                fail(NetError.FAILED);
+                return;
+            }
+            try {
+                writer.write(job);
+                if (finish()) {
+                    job.complete();
+                }
+            } catch (Exception e) {
+                fail(NetError.FAILED);
+            } finally {
+                permits.release();
+            }
+        }
+
+        private void timeOut() {
+            if (finish()) {
+                var task = writeTask;
+                if (task != null) {
+                    task.cancel(true);
+                }
+                job.fail(NetError.TIMED_OUT);
+            }
+        }
+
+        void fail(NetError error) {
+            if (finish()) {
+                job.fail(error);
+            }
+        }
+
+        /**
+         * Marks the job as finished and cancels its timeout.
+         *
+         * @return {@code true} if the job has not been finished before
+         */
+        private boolean finish() {
+            if (!finished.compareAndSet(false, true)) {
+                return false;
+            }
+            unfinishedJobs.remove(this);
+            var task = timeoutTask;
+            if (task != null) {
+                task.cancel(false);
+            }
+            return true;
+        }
+    }
+}
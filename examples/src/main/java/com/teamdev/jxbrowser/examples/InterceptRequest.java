@@ -34,19 +34,25 @@ import com.teamdev.jxbrowser.view.swing.BrowserView;
 import java.awt.BorderLayout;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
+import java.time.Duration;
 import javax.swing.JFrame;
 import javax.swing.WindowConstants;
 
 /**
  * This example demonstrates how to intercept a URL request and override the response data in the
  * separate thread.
+ *
+ * <p>The response data is written by a shared executor that runs at most a fixed number of jobs at
+ * once and fails the jobs that take too long, so that a page with hundreds of resources doesn't
+ * start hundreds of threads.
  */
 public final class InterceptRequest {
 
     public static void main(String[] args) {
+        var jobExecutor = new AsyncJobExecutor(16, Duration.ofSeconds(10));
         var engine = Engine.newInstance(
                 EngineOptions.newBuilder(OFF_SCREEN)
-                        .addScheme(Scheme.HTTPS, new InterceptHttpsCallback())
+                        .addScheme(Scheme.HTTPS, new InterceptHttpsCallback(jobExecutor))
                         .build());
         var browser = engine.newBrowser();
 
@@ -58,6 +64,7 @@ public final class InterceptRequest {
                 @Override
                 public void windowClosing(WindowEvent e) {
                     engine.close();
+                    jobExecutor.close();
                 }
             });
             frame.setDefaultCloseOperation(WindowConstants.EXIT_ON_CLOSE);
@@ -72,6 +79,12 @@ public final class InterceptRequest {
 
     private static final class InterceptHttpsCallback implements InterceptUrlRequestCallback {
 
+        private final AsyncJobExecutor jobExecutor;
+
+        private InterceptHttpsCallback(AsyncJobExecutor jobExecutor) {
+            this.jobExecutor = jobExecutor;
+        }
+
         @Override
         public Response on(Params params) {
             var job = params.newUrlRequestJob(
@@ -81,10 +94,8 @@ public final class InterceptRequest {
                             .addHttpHeader(HttpHeader.of("Content-Type", "charset=utf-8"))
                             .build());
             // Perform complex calculations and override the response data in the separate thread.
-            new Thread(() -> {
-                job.write("<html><body><h1>Hello there!</h1></body></html>".getBytes());
-                job.complete();
-            }).start();
+            jobExecutor.submit(job, urlRequestJob -> urlRequestJob.write(
+                    "<html><body><h1>Hello there!</h1></body></html>".getBytes()));
             return Response.intercept(job);
         }
     }
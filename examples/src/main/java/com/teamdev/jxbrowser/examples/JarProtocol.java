@@ -21,13 +21,17 @@
 package com.teamdev.jxbrowser.examples;
 
 import static com.teamdev.jxbrowser.engine.RenderingMode.HARDWARE_ACCELERATED;
+import static com.teamdev.jxbrowser.logging.Logger.warn;
 import static com.teamdev.jxbrowser.net.Scheme.JAR;
+import static java.util.Locale.ROOT;
+import static java.util.Map.entry;
 import static javax.swing.SwingUtilities.invokeLater;
 
 import com.teamdev.jxbrowser.engine.Engine;
 import com.teamdev.jxbrowser.engine.EngineOptions;
 import com.teamdev.jxbrowser.net.HttpHeader;
 import com.teamdev.jxbrowser.net.HttpStatus;
+import com.teamdev.jxbrowser.net.NetError;
 import com.teamdev.jxbrowser.net.Scheme;
 import com.teamdev.jxbrowser.net.UrlRequestJob;
 import com.teamdev.jxbrowser.net.callback.InterceptUrlRequestCallback;
@@ -35,26 +39,73 @@ import com.teamdev.jxbrowser.view.swing.BrowserView;
 import java.awt.BorderLayout;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
-import java.io.DataInputStream;
 import java.io.IOException;
-import java.net.URL;
-import java.util.HashMap;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLConnection;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
 import javax.swing.JFrame;
 import javax.swing.WindowConstants;
 
 /**
  * This example demonstrates how to register a JAR protocol handler to load the files located inside
  * a JAR archive.
+ *
+ * <p>Every archive is opened once, and its entries are indexed by name, so the subsequent requests
+ * neither open the archive nor search for the entry again. The entries are written into the
+ * response in chunks, so large entries are never read into memory completely.
  */
 public final class JarProtocol {
 
-    private static final Map<String, String> MIME_TYPE_MAP = new HashMap<>();
+    /**
+     * The maximum number of bytes written into the job at once.
+     */
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private static final String OCTET_STREAM = "application/octet-stream";
+
+    private static final Map<String, String> MIME_TYPE_MAP = Map.ofEntries(
+            entry("html", "text/html; charset=utf-8"),
+            entry("htm", "text/html; charset=utf-8"),
+            entry("js", "text/javascript; charset=utf-8"),
+            entry("mjs", "text/javascript; charset=utf-8"),
+            entry("css", "text/css; charset=utf-8"),
+            entry("json", "application/json; charset=utf-8"),
+            entry("map", "application/json; charset=utf-8"),
+            entry("xml", "application/xml; charset=utf-8"),
+            entry("txt", "text/plain; charset=utf-8"),
+            entry("properties", "text/plain; charset=utf-8"),
+            entry("svg", "image/svg+xml"),
+            entry("png", "image/png"),
+            entry("jpg", "image/jpeg"),
+            entry("jpeg", "image/jpeg"),
+            entry("gif", "image/gif"),
+            entry("webp", "image/webp"),
+            entry("avif", "image/avif"),
+            entry("ico", "image/vnd.microsoft.icon"),
+            entry("woff", "font/woff"),
+            entry("woff2", "font/woff2"),
+            entry("ttf", "font/ttf"),
+            entry("otf", "font/otf"),
+            entry("wasm", "application/wasm"),
+            entry("pdf", "application/pdf"),
+            entry("mp3", "audio/mpeg"),
+            entry("wav", "audio/wav"),
+            entry("mp4", "video/mp4"),
+            entry("webm", "video/webm"));
 
     public static void main(String[] args) {
+        var callback = new InterceptJarRequestCallback();
         var engine = Engine.newInstance(
                 EngineOptions.newBuilder(HARDWARE_ACCELERATED)
-                        .addScheme(Scheme.JAR, new InterceptJarRequestCallback())
+                        .addScheme(Scheme.JAR, callback)
                         .build());
         var browser = engine.newBrowser();
 
@@ -66,6 +117,7 @@ public final class JarProtocol {
                 @Override
                 public void windowClosing(WindowEvent e) {
                     engine.close();
+                    callback.close();
                 }
             });
             frame.setDefaultCloseOperation(WindowConstants.EXIT_ON_CLOSE);
@@ -82,12 +134,6 @@ public final class JarProtocol {
         }
     }
 
-    static {
-        MIME_TYPE_MAP.put(".html", "text/html");
-        MIME_TYPE_MAP.put(".js", "text/javascript");
-        MIME_TYPE_MAP.put(".css", "text/css");
-    }
-
     /**
      * Converts the "jar://file/path" URL into the "jar:file:/path" URL.
      */
@@ -101,15 +147,26 @@ public final class JarProtocol {
         return result;
     }
 
+    /**
+     * Derives the MIME type from the extension of the given path.
+     *
+     * <p>The common web formats are looked up in {@link #MIME_TYPE_MAP}, and the rest are guessed
+     * by the JDK. If the type cannot be derived, {@code application/octet-stream} is returned.
+     */
     private static String getMimeType(String path) {
-        var extension = path.substring(path.lastIndexOf("."));
-        if (MIME_TYPE_MAP.containsKey(extension)) {
-            return MIME_TYPE_MAP.get(extension);
+        var extension = path.substring(path.lastIndexOf('.') + 1).toLowerCase(ROOT);
+        var mimeType = MIME_TYPE_MAP.get(extension);
+        if (mimeType != null) {
+            return mimeType;
         }
-        return "";
+        mimeType = URLConnection.guessContentTypeFromName(path);
+        return mimeType != null ? mimeType : OCTET_STREAM;
     }
 
-    private static final class InterceptJarRequestCallback implements InterceptUrlRequestCallback {
+    private static final class InterceptJarRequestCallback
+            implements InterceptUrlRequestCallback, AutoCloseable {
+
+        private final Map<Path, JarArchive> archives = new ConcurrentHashMap<>();
 
         @Override
         public Response on(Params params) {
@@ -117,25 +174,109 @@ public final class JarProtocol {
             if (!url.startsWith(JAR.name() + ":")) {
                 return Response.proceed();
             }
+            Path archivePath;
+            String entryName;
             try {
-                var inputStream = new DataInputStream(
-                        new URL(toJarUrl(url)).openStream());
-                var data = new byte[inputStream.available()];
-                inputStream.readFully(data);
-                inputStream.close();
-
-                var mimeType = getMimeType(params.urlRequest().url());
-                var options = UrlRequestJob.Options
-                        .newBuilder(HttpStatus.OK)
-                        .addHttpHeader(HttpHeader.of("Content-Type", mimeType))
-                        .build();
-                var job = params.newUrlRequestJob(options);
-                job.write(data);
+                // The URL looks like "jar:file:/path/app.jar!/path/in/archive".
+                var jarUrl = toJarUrl(url);
+                var separator = jarUrl.indexOf("!/");
+                if (separator < 0) {
+                    return Response.proceed();
+                }
+                archivePath = Path.of(URI.create(jarUrl.substring(4, separator)));
+                entryName = URI.create(jarUrl.substring(separator + 2)).getPath();
+            } catch (IllegalArgumentException e) {
+                return Response.proceed();
+            }
+            JarArchive archive;
+            try {
+                archive = archives.computeIfAbsent(archivePath, JarArchive::open);
+            } catch (UncheckedIOException e) {
+                warn("Couldn't open " + archivePath + ": " + e.getCause().getMessage());
+                return notFound(params);
+            }
+            var entry = archive.entries.get(entryName);
+            if (entry == null) {
+                return notFound(params);
+            }
+            var options = UrlRequestJob.Options
+                    .newBuilder(HttpStatus.OK)
+                    .addHttpHeader(HttpHeader.of("Content-Type", getMimeType(entryName)))
+                    .build();
+            var job = params.newUrlRequestJob(options);
+            try (var inputStream = archive.jarFile.getInputStream(entry)) {
+                write(inputStream, job);
                 job.complete();
-                return Response.intercept(job);
             } catch (IOException e) {
-                e.printStackTrace();
-                return Response.proceed();
+                warn("Couldn't read " + entryName + " from " + archivePath + ": "
+                        + e.getMessage());
+                job.fail(NetError.FAILED);
+            }
+            return Response.intercept(job);
+        }
+
+        private static Response notFound(Params params) {
+            var job = params.newUrlRequestJob(
+                    UrlRequestJob.Options.newBuilder(HttpStatus.NOT_FOUND).build());
+            job.complete();
+            return Response.intercept(job);
+        }
+
+        /**
+         * Writes the given stream into the job in chunks.
+         */
+        private static void write(InputStream inputStream, UrlRequestJob job)
+                throws IOException {
+            while (true) {
+                // The job may keep the written array, so every chunk is written from a new one.
+                var chunk = new byte[CHUNK_SIZE];
+                var read = inputStream.readNBytes(chunk, 0, CHUNK_SIZE);
+                if (read > 0) {
+                    job.write(read == CHUNK_SIZE ? chunk : Arrays.copyOf(chunk, read));
+                }
+                if (read < CHUNK_SIZE) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Closes all the opened archives.
+         */
+        @Override
+        public void close() {
+            for (var archive : archives.values()) {
+                try {
+                    archive.jarFile.close();
+                } catch (IOException e) {
+                    warn("Couldn't close " + archive.jarFile.getName() + ": " + e.getMessage());
+                }
+            }
+            archives.clear();
+        }
+    }
+
+    /**
+     * An opened JAR archive with its entries indexed by name.
+     */
+    private static final class JarArchive {
+
+        private final JarFile jarFile;
+        private final Map<String, JarEntry> entries;
+
+        private JarArchive(JarFile jarFile) {
+            this.jarFile = jarFile;
+            this.entries = jarFile.stream()
+                    .filter(entry -> !entry.isDirectory())
+                    .collect(Collectors.toUnmodifiableMap(JarEntry::getName, entry -> entry,
+                            (first, duplicate) -> first));
+        }
+
+        private static JarArchive open(Path path) {
+            try {
+                return new JarArchive(new JarFile(path.toFile()));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
             }
         }
     }
@@ -38,6 +38,7 @@ module("launcher", "./tutorials/selenium/launcher")
 module("target-app", "./tutorials/selenium/target-app")
 // Java web crawler
 module("web-crawler", "./tutorials/web-crawler")
+module("web-crawler-benchmarks", "./tutorials/web-crawler/benchmarks")
 // Java media player
 module("media-player", "./tutorials/media-player")
 // JxBrowser logs redirection
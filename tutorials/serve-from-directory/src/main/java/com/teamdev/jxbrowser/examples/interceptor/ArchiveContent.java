@@ -0,0 +1,191 @@
+/*
+ *  Copyright 2026, TeamDev. All rights reserved.
+ *
+ *  Redistribution and use in source and/or binary forms, with or without
+ *  modification, must retain the above copyright notice and the following
+ *  disclaimer.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ *  "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ *  LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ *  A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ *  OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ *  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ *  LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *  DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *  THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ *  OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.teamdev.jxbrowser.examples.interceptor;
+
+import com.teamdev.jxbrowser.net.UrlRequestJob;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * The content of an entry of a zip or jar archive.
+ *
+ * <p>The stored entries are copied into the job straight from the mapped
+ * archive. The deflated entries are inflated chunk by chunk while they are
+ * written, so they are never inflated into memory completely. The index of
+ * the archive is loaded once, so the entries are considered
+ * {@linkplain #IMMUTABLE immutable}.
+ */
+final class ArchiveContent extends Content {
+
+    private final ArchiveIndex.Entry entry;
+
+    ArchiveContent(ArchiveIndex.Entry entry) {
+        this.entry = entry;
+    }
+
+    @Override
+    long size() {
+        return entry.size();
+    }
+
+    @Override
+    String version() {
+        return IMMUTABLE;
+    }
+
+    @Override
+    Optional<Instant> lastModified() {
+        return entry.lastModified();
+    }
+
+    @Override
+    void writeTo(UrlRequestJob job) throws IOException {
+        writeTo(job, 0, entry.size());
+    }
+
+    @Override
+    void writeTo(UrlRequestJob job, long offset, long length)
+            throws IOException {
+        try (var stream = newInputStream()) {
+            stream.skipNBytes(offset);
+            write(stream, job, length);
+        }
+    }
+
+    @Override
+    byte[] readAllBytes() throws IOException {
+        if (entry.size() > Integer.MAX_VALUE) {
+            throw new IOException("The entry is too large.");
+        }
+        try (var stream = newInputStream()) {
+            return stream.readNBytes((int) entry.size());
+        }
+    }
+
+    @Override
+    InputStream newInputStream() throws IOException {
+        var data = entry.data();
+        return entry.method() == ArchiveIndex.STORED
+                ? new StoredStream(data)
+                : new DeflatedStream(data);
+    }
+
+    @Override
+    public void close() {
+        // The archive stays mapped, so there is nothing to release.
+    }
+
+    /**
+     * A stream that reads a stored entry from the mapped archive.
+     */
+    private static final class StoredStream extends InputStream {
+
+        private final ByteBuffer data;
+
+        private StoredStream(ByteBuffer data) {
+            this.data = data;
+        }
+
+        @Override
+        public int read() {
+            return data.hasRemaining() ? data.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!data.hasRemaining()) {
+                return -1;
+            }
+            var read = Math.min(length, data.remaining());
+            data.get(bytes, offset, read);
+            return read;
+        }
+
+        @Override
+        public long skip(long count) {
+            var skipped = (int) Math.max(0, Math.min(count, data.remaining()));
+            data.position(data.position() + skipped);
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return data.remaining();
+        }
+    }
+
+    /**
+     * A stream that inflates a deflated entry from the mapped archive.
+     */
+    private static final class DeflatedStream extends InputStream {
+
+        private final Inflater inflater = new Inflater(true);
+
+        private DeflatedStream(ByteBuffer data) {
+            inflater.setInput(data);
+        }
+
+        @Override
+        public int read() throws IOException {
+            var bytes = new byte[1];
+            return read(bytes, 0, 1) < 0 ? -1 : bytes[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length)
+                throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            try {
+                while (true) {
+                    var read = inflater.inflate(bytes, offset, length);
+                    if (read > 0) {
+                        return read;
+                    }
+                    if (inflater.finished()) {
+                        return -1;
+                    }
+                    if (inflater.needsInput() || inflater.needsDictionary()) {
+                        throw new EOFException("The entry is truncated.");
+                    }
+                }
+            } catch (DataFormatException e) {
+                throw new ZipException(e.getMessage());
+            }
+        }
+
+        @Override
+        public void close() {
+            inflater.end();
+        }
+    }
+}
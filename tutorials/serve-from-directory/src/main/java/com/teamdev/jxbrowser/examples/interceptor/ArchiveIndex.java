@@ -0,0 +1,282 @@
+/*
+ *  Copyright 2026, TeamDev. All rights reserved.
+ *
+ *  Redistribution and use in source and/or binary forms, with or without
+ *  modification, must retain the above copyright notice and the following
+ *  disclaimer.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ *  "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ *  LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ *  A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ *  OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ *  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ *  LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *  DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *  THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ *  OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.teamdev.jxbrowser.examples.interceptor;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.READ;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.ZipException;
+
+/**
+ * The index of the entries of a zip or jar archive.
+ *
+ * <p>The archive is mapped into memory, and its central directory is read
+ * once when the index is loaded. After that, an entry is found with a single
+ * hash lookup, and its data is read straight from the mapped archive without
+ * any system calls.
+ *
+ * <p>Only the entries that are stored or deflated are supported. The ZIP64
+ * archives, which are needed for the archives larger than 4 GB, are not
+ * supported.
+ *
+ * <p>This class is thread-safe.
+ */
+final class ArchiveIndex {
+
+    static final int STORED = 0;
+    static final int DEFLATED = 8;
+
+    private static final int END_SIGNATURE = 0x06054b50;
+    private static final int END_SIZE = 22;
+    private static final int MAX_COMMENT_SIZE = 0xffff;
+    private static final int CENTRAL_SIGNATURE = 0x02014b50;
+    private static final int CENTRAL_HEADER_SIZE = 46;
+    private static final int LOCAL_SIGNATURE = 0x04034b50;
+    private static final int LOCAL_HEADER_SIZE = 30;
+    private static final int ENCRYPTED_FLAG = 1;
+    private static final long ZIP64_MARKER = 0xffffffffL;
+
+    private final Path archive;
+    private final ByteBuffer data;
+    private final Map<String, Entry> entries;
+
+    private ArchiveIndex(Path archive, ByteBuffer data) throws ZipException {
+        this.archive = archive;
+        this.data = data;
+        this.entries = readEntries();
+    }
+
+    /**
+     * Maps the given archive into memory and reads its central directory.
+     *
+     * @throws ZipException if the archive is malformed or not supported
+     */
+    static ArchiveIndex load(Path archive) throws IOException {
+        MappedByteBuffer mapped;
+        try (var channel = FileChannel.open(archive, READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new ZipException("The archive is too large: " + archive);
+            }
+            // The mapping stays valid after the channel is closed.
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+                    channel.size());
+        }
+        return new ArchiveIndex(archive, mapped.order(ByteOrder.LITTLE_ENDIAN));
+    }
+
+    /**
+     * Returns the file entry of the given name, if any.
+     */
+    Optional<Entry> entry(String name) {
+        return Optional.ofNullable(entries.get(name));
+    }
+
+    /**
+     * Returns the number of the file entries in the archive.
+     */
+    int size() {
+        return entries.size();
+    }
+
+    private Map<String, Entry> readEntries() throws ZipException {
+        var end = findEnd();
+        var count = unsignedShort(data, end + 10);
+        var position = unsignedInt(data, end + 16);
+        if (count == 0xffff || position == ZIP64_MARKER) {
+            throw new ZipException("ZIP64 archives are not supported: "
+                    + archive);
+        }
+        var entries = new HashMap<String, Entry>(count * 4 / 3 + 1);
+        var offset = (int) position;
+        for (var i = 0; i < count; i++) {
+            if (offset + CENTRAL_HEADER_SIZE > data.limit()
+                    || data.getInt(offset) != CENTRAL_SIGNATURE) {
+                throw new ZipException("Malformed central directory: "
+                        + archive);
+            }
+            var nameLength = unsignedShort(data, offset + 28);
+            var extraLength = unsignedShort(data, offset + 30);
+            var commentLength = unsignedShort(data, offset + 32);
+            var name = string(data, offset + CENTRAL_HEADER_SIZE, nameLength);
+            if (!name.endsWith("/")) {
+                entries.put(name, readEntry(offset, name));
+            }
+            offset += CENTRAL_HEADER_SIZE + nameLength + extraLength
+                    + commentLength;
+        }
+        return Collections.unmodifiableMap(entries);
+    }
+
+    private Entry readEntry(int offset, String name) throws ZipException {
+        var flags = unsignedShort(data, offset + 8);
+        var method = unsignedShort(data, offset + 10);
+        var compressedSize = unsignedInt(data, offset + 20);
+        var size = unsignedInt(data, offset + 24);
+        var headerOffset = unsignedInt(data, offset + 42);
+        if (compressedSize == ZIP64_MARKER || size == ZIP64_MARKER
+                || headerOffset == ZIP64_MARKER) {
+            throw new ZipException("ZIP64 entries are not supported: "
+                    + name + " in " + archive);
+        }
+        var lastModified = dosTime(unsignedShort(data, offset + 14),
+                unsignedShort(data, offset + 12));
+        return new Entry(name, method, (flags & ENCRYPTED_FLAG) != 0,
+                (int) headerOffset, (int) compressedSize, size, lastModified);
+    }
+
+    /**
+     * Finds the end of central directory record, which is followed only by
+     * the archive comment.
+     */
+    private int findEnd() throws ZipException {
+        var last = data.limit() - END_SIZE;
+        var first = Math.max(0, last - MAX_COMMENT_SIZE);
+        for (var offset = last; offset >= first; offset--) {
+            if (data.getInt(offset) == END_SIGNATURE) {
+                return offset;
+            }
+        }
+        throw new ZipException("Not a zip archive: " + archive);
+    }
+
+    /**
+     * Converts the date and time in the MS-DOS format, which is used by the
+     * zip archives, to an instant.
+     */
+    private static Optional<Instant> dosTime(int date, int time) {
+        try {
+            var dateTime = LocalDateTime.of(((date >> 9) & 0x7f) + 1980,
+                    (date >> 5) & 0x0f, date & 0x1f, (time >> 11) & 0x1f,
+                    (time >> 5) & 0x3f, (time & 0x1f) * 2);
+            return Optional.of(dateTime.atZone(ZoneId.systemDefault())
+                    .toInstant());
+        } catch (DateTimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static int unsignedShort(ByteBuffer data, int offset) {
+        return Short.toUnsignedInt(data.getShort(offset));
+    }
+
+    private static long unsignedInt(ByteBuffer data, int offset) {
+        return Integer.toUnsignedLong(data.getInt(offset));
+    }
+
+    private static String string(ByteBuffer data, int offset, int length) {
+        var bytes = new byte[length];
+        data.get(offset, bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    /**
+     * A file entry of the archive.
+     */
+    final class Entry {
+
+        private final String name;
+        private final int method;
+        private final boolean encrypted;
+        private final int headerOffset;
+        private final int compressedSize;
+        private final long size;
+        private final Optional<Instant> lastModified;
+
+        private Entry(String name, int method, boolean encrypted,
+                int headerOffset, int compressedSize, long size,
+                Optional<Instant> lastModified) {
+            this.name = name;
+            this.method = method;
+            this.encrypted = encrypted;
+            this.headerOffset = headerOffset;
+            this.compressedSize = compressedSize;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+        /**
+         * Returns the size of the uncompressed entry in bytes.
+         */
+        long size() {
+            return size;
+        }
+
+        /**
+         * Returns the compression method of the entry.
+         */
+        int method() {
+            return method;
+        }
+
+        /**
+         * Returns the time the entry was last modified, if known.
+         */
+        Optional<Instant> lastModified() {
+            return lastModified;
+        }
+
+        /**
+         * Returns the stored or compressed data of the entry.
+         *
+         * <p>The returned buffer is a view of the mapped archive, so the data
+         * is not copied.
+         *
+         * @throws ZipException if the entry is malformed or not supported
+         */
+        ByteBuffer data() throws ZipException {
+            if (encrypted) {
+                throw new ZipException("Encrypted entries are not "
+                        + "supported: " + name);
+            }
+            if (method != STORED && method != DEFLATED) {
+                throw new ZipException("Unsupported compression method "
+                        + method + ": " + name);
+            }
+            if (headerOffset + LOCAL_HEADER_SIZE > data.limit()
+                    || data.getInt(headerOffset) != LOCAL_SIGNATURE) {
+                throw new ZipException("Malformed entry: " + name + " in "
+                        + archive);
+            }
+            var start = headerOffset + LOCAL_HEADER_SIZE
+                    + unsignedShort(data, headerOffset + 26)
+                    + unsignedShort(data, headerOffset + 28);
+            if (start + (long) compressedSize > data.limit()) {
+                throw new ZipException("Truncated entry: " + name + " in "
+                        + archive);
+            }
+            return data.slice(start, compressedSize);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ *  Copyright 2026, TeamDev. All rights reserved.
+ *
+ *  Redistribution and use in source and/or binary forms, with or without
+ *  modification, must retain the above copyright notice and the following
+ *  disclaimer.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ *  "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ *  LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ *  A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ *  OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ *  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ *  LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *  DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *  THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ *  OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.teamdev.jxbrowser.examples.interceptor;
+
+import java.util.Optional;
+
+/**
+ * A range of bytes requested by the {@code Range} HTTP header.
+ *
+ * <p>Only a single range is supported. If several ranges are requested, the
+ * whole content is served, which is allowed by
+ * <a href="https://www.rfc-editor.org/rfc/rfc9110#section-14.2">RFC 9110</a>.
+ */
+final class ByteRange {
+
+    private static final String UNIT = "bytes=";
+
+    /**
+     * The range that lies outside the content.
+     */
+    static final ByteRange UNSATISFIABLE = new ByteRange(-1, -1);
+
+    private final long start;
+    private final long end;
+
+    private ByteRange(long start, long end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Parses the value of the {@code Range} header for the content of the
+     * given size.
+     *
+     * @return the requested range, {@link #UNSATISFIABLE} if the range lies
+     * outside the content, or an empty {@code Optional} if the header is
+     * invalid or not supported, so that the whole content is served
+     */
+    static Optional<ByteRange> parse(String header, long size) {
+        var value = header.trim();
+        if (!value.regionMatches(true, 0, UNIT, 0, UNIT.length())
+                || value.indexOf(',') >= 0) {
+            return Optional.empty();
+        }
+        var dash = value.indexOf('-', UNIT.length());
+        if (dash < 0) {
+            return Optional.empty();
+        }
+        try {
+            var first = value.substring(UNIT.length(), dash).trim();
+            var last = value.substring(dash + 1).trim();
+            if (first.isEmpty()) {
+                // The suffix range, such as "bytes=-500", requests the last
+                // bytes of the content.
+                var length = Long.parseLong(last);
+                if (length < 0) {
+                    return Optional.empty();
+                }
+                return Optional.of(length == 0 || size == 0
+                        ? UNSATISFIABLE
+                        : new ByteRange(Math.max(size - length, 0), size - 1));
+            }
+            var start = Long.parseLong(first);
+            var end = last.isEmpty() ? Long.MAX_VALUE : Long.parseLong(last);
+            if (start < 0 || end < start) {
+                return Optional.empty();
+            }
+            return Optional.of(start >= size
+                    ? UNSATISFIABLE
+                    : new ByteRange(start, Math.min(end, size - 1)));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the position of the first byte in the range.
+     */
+    long start() {
+        return start;
+    }
+
+    /**
+     * Returns the number of bytes in the range.
+     */
+    long length() {
+        return end - start + 1;
+    }
+
+    /**
+     * Returns the value of the {@code Content-Range} header for this range of
+     * the content of the given size.
+     */
+    String contentRange(long size) {
+        return this == UNSATISFIABLE
+                ? "bytes */" + size
+                : "bytes " + start + '-' + end + '/' + size;
+    }
+}
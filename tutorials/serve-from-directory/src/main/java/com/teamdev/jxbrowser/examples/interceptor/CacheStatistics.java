@@ -0,0 +1,97 @@
+/*
+ *  Copyright 2026, TeamDev. All rights reserved.
+ *
+ *  Redistribution and use in source and/or binary forms, with or without
+ *  modification, must retain the above copyright notice and the following
+ *  disclaimer.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ *  "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ *  LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ *  A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ *  OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ *  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ *  LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *  DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *  THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ *  OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.teamdev.jxbrowser.examples.interceptor;
+
+/**
+ * A snapshot of the statistics of the content cache of an interceptor.
+ *
+ * @see DomainContentInterceptor#cacheStatistics()
+ */
+public final class CacheStatistics {
+
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final int entries;
+    private final long size;
+    private final long capacity;
+
+    CacheStatistics(long hits, long misses, long evictions, int entries,
+            long size, long capacity) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.entries = entries;
+        this.size = size;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the number of requests served from the cache.
+     */
+    public long hits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of requests that were not found in the cache or
+     * found in an outdated version.
+     */
+    public long misses() {
+        return misses;
+    }
+
+    /**
+     * Returns the number of entries evicted to free up space for the new
+     * ones.
+     */
+    public long evictions() {
+        return evictions;
+    }
+
+    /**
+     * Returns the number of the cached entries.
+     */
+    public int entries() {
+        return entries;
+    }
+
+    /**
+     * Returns the total size of the cached content in bytes.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Returns the maximum total size of the cached content in bytes.
+     */
+    public long capacity() {
+        return capacity;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("hits: %d, misses: %d, evictions: %d, "
+                        + "entries: %d, size: %d of %d bytes",
+                hits, misses, evictions, entries, size, capacity);
+    }
+}
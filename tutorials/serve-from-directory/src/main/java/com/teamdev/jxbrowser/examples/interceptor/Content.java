@@ -0,0 +1,157 @@
+/*
+ *  Copyright 2026, TeamDev. All rights reserved.
+ *
+ *  Redistribution and use in source and/or binary forms, with or without
+ *  modification, must retain the above copyright notice and the following
+ *  disclaimer.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ *  "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ *  LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ *  A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ *  OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ *  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ *  LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *  DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *  THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ *  OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.teamdev.jxbrowser.examples.interceptor;
+
+import com.teamdev.jxbrowser.net.UrlRequestJob;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * The content served for a requested path.
+ *
+ * <p>The content is written into a {@link UrlRequestJob} in chunks of
+ * a fixed size, so the memory required to serve it does not depend on the
+ * size of the content.
+ *
+ * <p>The content is not read until it is written or
+ * {@linkplain #readAllBytes() read} completely, so it is cheap to check its
+ * {@linkplain #version() version} against a cached copy.
+ */
+abstract class Content implements Closeable {
+
+    /**
+     * The maximum number of bytes written into the job at once.
+     */
+    static final int CHUNK_SIZE = 64 * 1024;
+
+    /**
+     * The version of the content that never changes.
+     */
+    static final String IMMUTABLE = "immutable";
+
+    /**
+     * Creates the content of the given file.
+     */
+    static Content of(Path file) throws IOException {
+        return new FileContent(file);
+    }
+
+    /**
+     * Creates the content of the given file that has the given attributes.
+     *
+     * <p>Use this method when the attributes are known already, so that the
+     * file system is not queried for them again.
+     */
+    static Content of(Path file, BasicFileAttributes attributes) {
+        return new FileContent(file, attributes);
+    }
+
+    /**
+     * Creates the content of the given resource, for example, a classpath
+     * resource.
+     */
+    static Content of(URL resource) throws IOException {
+        return new ResourceContent(resource);
+    }
+
+    /**
+     * Creates the content of the given entry of an archive.
+     */
+    static Content of(ArchiveIndex.Entry entry) {
+        return new ArchiveContent(entry);
+    }
+
+    /**
+     * Returns the size of the content in bytes, or {@code -1} if the size is
+     * not known until the content is read.
+     */
+    abstract long size();
+
+    /**
+     * Returns a string that changes whenever the content changes, or
+     * {@link #IMMUTABLE} if the content never changes.
+     */
+    abstract String version();
+
+    /**
+     * Returns the time the content was last modified, if known.
+     */
+    Optional<Instant> lastModified() {
+        return Optional.empty();
+    }
+
+    /**
+     * Writes the content into the given job.
+     */
+    abstract void writeTo(UrlRequestJob job) throws IOException;
+
+    /**
+     * Writes the given number of bytes of the content starting at the given
+     * {@code offset} into the given job.
+     *
+     * <p>Only the written part of the content is read.
+     */
+    abstract void writeTo(UrlRequestJob job, long offset, long length)
+            throws IOException;
+
+    /**
+     * Reads the whole content into an array.
+     */
+    abstract byte[] readAllBytes() throws IOException;
+
+    /**
+     * Opens a new stream that reads the content from the beginning
+     * independently of this instance.
+     */
+    abstract InputStream newInputStream() throws IOException;
+
+    /**
+     * Writes at most the given number of bytes read from the given
+     * {@code stream} into the given job chunk by chunk.
+     */
+    static void write(InputStream stream, UrlRequestJob job, long length)
+            throws IOException {
+        var remaining = length;
+        while (remaining > 0) {
+            // The job may keep the written array, so every chunk is written
+            // from a new one.
+            var chunkSize = (int) Math.min(CHUNK_SIZE, remaining);
+            var chunk = new byte[chunkSize];
+            var read = stream.readNBytes(chunk, 0, chunkSize);
+            if (read > 0) {
+                job.write(read == chunkSize
+                        ? chunk
+                        : Arrays.copyOf(chunk, read));
+            }
+            if (read < chunkSize) {
+                return;
+            }
+            remaining -= read;
+        }
+    }
+}
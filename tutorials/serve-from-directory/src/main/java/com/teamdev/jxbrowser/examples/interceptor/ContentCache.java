@@ -0,0 +1,146 @@
+/*
+ *  Copyright 2026, TeamDev. All rights reserved.
+ *
+ *  Redistribution and use in source and/or binary forms, with or without
+ *  modification, must retain the above copyright notice and the following
+ *  disclaimer.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ *  "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ *  LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ *  A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ *  OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ *  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ *  LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *  DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *  THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ *  OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.teamdev.jxbrowser.examples.interceptor;
+
+import java.util.LinkedHashMap;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A least recently used cache of the content bounded by the total size of
+ * the cached content in bytes.
+ *
+ * <p>Every entry is stored together with the {@linkplain Content#version()
+ * version} of the content, and is used only while the version stays the same.
+ * The content larger than one eighth of the capacity is not cached, so a few
+ * large files do not evict all the others.
+ *
+ * <p>This class is thread-safe.
+ */
+final class ContentCache {
+
+    private final long capacity;
+    private final long maxEntrySize;
+    private final LinkedHashMap<String, Entry> entries =
+            new LinkedHashMap<>(16, 0.75f, true);
+    private long size;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a cache that holds up to the given number of bytes.
+     */
+    ContentCache(long capacity) {
+        this.capacity = capacity;
+        this.maxEntrySize = capacity / 8;
+    }
+
+    /**
+     * Checks if the content of the given size can be cached.
+     */
+    boolean accepts(long contentSize) {
+        return contentSize >= 0 && contentSize <= maxEntrySize;
+    }
+
+    /**
+     * Returns the cached bytes of the content of the given {@code path} if
+     * the cached version matches the given {@code version}.
+     */
+    Optional<byte[]> get(String path, String version) {
+        synchronized (entries) {
+            var entry = entries.get(path);
+            if (entry != null && entry.version.equals(version)) {
+                hits.increment();
+                return Optional.of(entry.bytes);
+            }
+            if (entry != null) {
+                // The content has changed, so the entry is useless.
+                remove(path);
+            }
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * Caches the given {@code bytes} of the given {@code version} of the
+     * content of the given {@code path}, evicting the least recently used
+     * entries if the cache is full.
+     */
+    void put(String path, String version, byte[] bytes) {
+        if (!accepts(bytes.length)) {
+            return;
+        }
+        synchronized (entries) {
+            remove(path);
+            entries.put(path, new Entry(version, bytes));
+            size += bytes.length;
+            var eldest = entries.entrySet().iterator();
+            while (size > capacity) {
+                size -= eldest.next().getValue().bytes.length;
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Removes the cached content of the given {@code path}, if any.
+     */
+    void invalidate(String path) {
+        synchronized (entries) {
+            remove(path);
+        }
+    }
+
+    private void remove(String path) {
+        var removed = entries.remove(path);
+        if (removed != null) {
+            size -= removed.bytes.length;
+        }
+    }
+
+    /**
+     * Returns the current statistics of this cache.
+     */
+    CacheStatistics statistics() {
+        synchronized (entries) {
+            return new CacheStatistics(hits.sum(), misses.sum(),
+                    evictions.sum(), entries.size(), size, capacity);
+        }
+    }
+
+    /**
+     * The cached content of a specific version.
+     */
+    private static final class Entry {
+
+        private final String version;
+        private final byte[] bytes;
+
+        private Entry(String version, byte[] bytes) {
+            this.version = version;
+            this.bytes = bytes;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ *  Copyright 2026, TeamDev. All rights reserved.
+ *
+ *  Redistribution and use in source and/or binary forms, with or without
+ *  modification, must retain the above copyright notice and the following
+ *  disclaimer.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ *  "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ *  LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ *  A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ *  OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ *  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ *  LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *  DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *  THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ *  OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.teamdev.jxbrowser.examples.interceptor;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Locale.ROOT;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A utility for working with the precompressed variants of the content.
+ *
+ * <p>A precompressed variant is stored next to the original content with the
+ * extension of its encoding, so that {@code app.js.br} and
+ * {@code app.js.gz} are the Brotli and the gzip variants of {@code app.js}.
+ */
+final class ContentEncodings {
+
+    static final String BROTLI = "br";
+    static final String GZIP = "gzip";
+
+    /**
+     * The supported encodings in the order of preference.
+     */
+    private static final List<String> SUPPORTED = List.of(BROTLI, GZIP);
+
+    /**
+     * The content smaller than this is not worth compressing.
+     */
+    private static final long MIN_COMPRESSED_SIZE = 1024;
+
+    private static final Set<String> COMPRESSIBLE_TYPES = Set.of(
+            "application/javascript", "application/json",
+            "application/ld+json", "application/xml", "application/xhtml+xml",
+            "application/wasm", "image/svg+xml", "image/vnd.microsoft.icon");
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private ContentEncodings() {
+    }
+
+    /**
+     * Returns the supported encodings accepted by the given value of the
+     * {@code Accept-Encoding} header in the order of preference.
+     */
+    static List<String> accepted(String acceptEncoding) {
+        var accepted = new ArrayList<String>(SUPPORTED.size());
+        var any = false;
+        var rejected = new ArrayList<String>();
+        for (var item : acceptEncoding.split(",")) {
+            var parameters = item.split(";");
+            var coding = parameters[0].trim().toLowerCase(ROOT);
+            var isRejected = false;
+            for (var i = 1; i < parameters.length; i++) {
+                var parameter = parameters[i].trim();
+                if (parameter.startsWith("q=")) {
+                    isRejected = isZero(parameter.substring(2));
+                }
+            }
+            if (isRejected) {
+                rejected.add(coding);
+            } else if (coding.equals("*")) {
+                any = true;
+            } else {
+                accepted.add(coding);
+            }
+        }
+        var result = new ArrayList<String>(SUPPORTED.size());
+        for (var encoding : SUPPORTED) {
+            if (!rejected.contains(encoding)
+                    && (any || accepted.contains(encoding))) {
+                result.add(encoding);
+            }
+        }
+        return result;
+    }
+
+    private static boolean isZero(String quality) {
+        try {
+            return Double.parseDouble(quality.trim()) == 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the path of the variant of the content of the given
+     * {@code path} compressed with the given {@code encoding}.
+     */
+    static String variantPath(String path, String encoding) {
+        return path + (encoding.equals(GZIP) ? ".gz" : "." + encoding);
+    }
+
+    /**
+     * Checks if the content of the given MIME type and size is worth
+     * compressing.
+     *
+     * <p>The images, media, and archives are compressed already.
+     */
+    static boolean isCompressible(String mimeType, long size) {
+        var parameters = mimeType.indexOf(';');
+        var type = parameters < 0
+                ? mimeType
+                : mimeType.substring(0, parameters);
+        return size >= MIN_COMPRESSED_SIZE && (type.startsWith("text/")
+                || COMPRESSIBLE_TYPES.contains(type));
+    }
+
+    /**
+     * Writes the gzip variant of the given {@code file} next to it.
+     *
+     * <p>The variant is written to a temporary file first and moved to its
+     * place atomically, so that it is never served partially written.
+     */
+    static void gzip(Path file) throws IOException {
+        var variant = file.resolveSibling(file.getFileName() + ".gz");
+        var temp = Files.createTempFile(file.getParent(), ".", ".gz.tmp");
+        try {
+            try (var output = new GZIPOutputStream(
+                    Files.newOutputStream(temp), Content.CHUNK_SIZE)) {
+                Files.copy(file, output);
+            }
+            Files.move(temp, variant, ATOMIC_MOVE, REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ *  Copyright 2026, TeamDev. All rights reserved.
+ *
+ *  Redistribution and use in source and/or binary forms, with or without
+ *  modification, must retain the above copyright notice and the following
+ *  disclaimer.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ *  "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ *  LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ *  A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ *  OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ *  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ *  LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *  DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *  THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ *  OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.teamdev.jxbrowser.examples.interceptor;
+
+import static com.teamdev.jxbrowser.logging.Logger.warn;
+import static java.lang.Integer.MAX_VALUE;
+import static java.nio.file.FileVisitOption.FOLLOW_LINKS;
+import static java.nio.file.FileVisitResult.CONTINUE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * An in-memory index of the files in a directory kept up to date by
+ * a {@link WatchService}.
+ *
+ * <p>The directory is scanned once when the index is created. After that,
+ * the attributes of a file are looked up in memory, and a background thread
+ * updates them as soon as the file system reports a change. Every changed,
+ * created, or deleted file is reported to the listener, so that the data
+ * derived from the file can be dropped.
+ *
+ * <p>How soon the changes are reported depends on the platform. On Linux and
+ * Windows, it takes milliseconds. On macOS, the JDK polls the directories, so
+ * it may take several seconds.
+ *
+ * <p>This class is thread-safe.
+ */
+final class ContentRootIndex implements Closeable {
+
+    private final Path root;
+    private final Consumer<Path> listener;
+    private final WatchService watchService;
+    private final Map<WatchKey, Path> directories = new ConcurrentHashMap<>();
+    private final Map<Path, BasicFileAttributes> files =
+            new ConcurrentHashMap<>();
+
+    private ContentRootIndex(Path root, Consumer<Path> listener)
+            throws IOException {
+        this.root = root;
+        this.listener = listener;
+        this.watchService = root.getFileSystem().newWatchService();
+    }
+
+    /**
+     * Scans the given directory and starts watching it.
+     *
+     * @param root     the directory to index
+     * @param listener the listener notified of every changed file
+     */
+    static ContentRootIndex watch(Path root, Consumer<Path> listener)
+            throws IOException {
+        var index = new ContentRootIndex(root, listener);
+        index.scan(root, new HashSet<>());
+        var thread = new Thread(index::processEvents,
+                "content-root-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        return index;
+    }
+
+    /**
+     * Returns the attributes of the given regular file, if it exists.
+     *
+     * @param file the absolute normalized path of the file
+     */
+    Optional<BasicFileAttributes> attributes(Path file) {
+        return Optional.ofNullable(files.get(file));
+    }
+
+    /**
+     * Indexes the files in the given directory and its subdirectories.
+     *
+     * <p>Every directory is watched before its files are listed, so the files
+     * created during the scan are not missed.
+     *
+     * @param directory the directory to scan
+     * @param found     the set to add the found files to
+     */
+    private void scan(Path directory, Set<Path> found) throws IOException {
+        Files.walkFileTree(directory, EnumSet.of(FOLLOW_LINKS), MAX_VALUE,
+                new Scanner(found));
+    }
+
+    private void processEvents() {
+        while (true) {
+            WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+            var directory = directories.get(key);
+            for (var event : key.pollEvents()) {
+                if (event.kind() == OVERFLOW || directory == null) {
+                    // Some events have been lost, so the whole directory
+                    // needs to be scanned again.
+                    rescan();
+                } else {
+                    update(directory.resolve((Path) event.context()));
+                }
+            }
+            if (!key.reset()) {
+                directories.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Updates the attributes of the given file, or of all the files in it if
+     * it is a directory.
+     */
+    private void update(Path file) {
+        try {
+            var attributes =
+                    Files.readAttributes(file, BasicFileAttributes.class);
+            if (attributes.isDirectory()) {
+                scan(file, new HashSet<>());
+            } else if (attributes.isRegularFile()) {
+                files.put(file, attributes);
+                listener.accept(file);
+            }
+        } catch (NoSuchFileException e) {
+            remove(file);
+        } catch (IOException e) {
+            warn("Couldn't index " + file + ": " + e.getMessage());
+            remove(file);
+        }
+    }
+
+    /**
+     * Removes the given file, or all the files in it if it is a directory,
+     * from the index.
+     */
+    private void remove(Path file) {
+        for (var indexed : files.keySet()) {
+            if (indexed.startsWith(file)) {
+                files.remove(indexed);
+                listener.accept(indexed);
+            }
+        }
+    }
+
+    private void rescan() {
+        var found = new HashSet<Path>();
+        try {
+            scan(root, found);
+        } catch (IOException e) {
+            warn("Couldn't index " + root + ": " + e.getMessage());
+            return;
+        }
+        for (var indexed : files.keySet()) {
+            if (!found.contains(indexed)) {
+                files.remove(indexed);
+                listener.accept(indexed);
+            }
+        }
+    }
+
+    private static boolean isChanged(BasicFileAttributes previous,
+            BasicFileAttributes current) {
+        return previous.size() != current.size()
+                || !previous.lastModifiedTime()
+                        .equals(current.lastModifiedTime());
+    }
+
+    /**
+     * Stops watching the directory.
+     */
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+
+    /**
+     * Indexes and watches the visited files and directories.
+     */
+    private final class Scanner extends SimpleFileVisitor<Path> {
+
+        private final Set<Path> found;
+
+        private Scanner(Set<Path> found) {
+            this.found = found;
+        }
+
+        @Override
+        public FileVisitResult preVisitDirectory(Path directory,
+                BasicFileAttributes attributes) throws IOException {
+            var key = directory.register(watchService, ENTRY_CREATE,
+                    ENTRY_DELETE, ENTRY_MODIFY);
+            directories.put(key, directory);
+            return CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFile(Path file,
+                BasicFileAttributes attributes) {
+            if (attributes.isRegularFile()) {
+                found.add(file);
+                var previous = files.put(file, attributes);
+                if (previous == null || isChanged(previous, attributes)) {
+                    listener.accept(file);
+                }
+            }
+            return CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFileFailed(Path file, IOException e) {
+            if (!(e instanceof NoSuchFileException)) {
+                warn("Couldn't index " + file + ": " + e.getMessage());
+            }
+            return CONTINUE;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ *  Copyright 2026, TeamDev. All rights reserved.
+ *
+ *  Redistribution and use in source and/or binary forms, with or without
+ *  modification, must retain the above copyright notice and the following
+ *  disclaimer.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ *  "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ *  LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ *  A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ *  OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ *  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ *  LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *  DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *  THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ *  OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.teamdev.jxbrowser.examples.interceptor;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.Locale.ROOT;
+
+import com.teamdev.jxbrowser.net.callback.InterceptUrlRequestCallback;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A URL interceptor that serves the content of several domains in a single
+ * callback.
+ *
+ * <p>The router dispatches every request to the {@linkplain ContentSource
+ * content source} registered for the host of the request and the longest
+ * matching path prefix, so that, for example, {@code app.local/} is served
+ * from a folder, {@code app.local/vendor} from an archive, and
+ * {@code docs.local/} from the classpath:
+ *
+ * <pre>{@code
+ * var router = ContentRouter.newBuilder()
+ *         .route(new DomainToFolderInterceptor("app.local", webRoot))
+ *         .route("/vendor", new DomainToArchiveInterceptor("app.local",
+ *                 vendorArchive))
+ *         .route(new DomainToResourceInterceptor("docs.local", "docs"))
+ *         .build();
+ * }</pre>
+ *
+ * <p>The source receives the path without the prefix, so
+ * {@code app.local/vendor/lib.js} is looked up as {@code lib.js} in the
+ * archive.
+ *
+ * <p>The host of the request is found without parsing the URL and is checked
+ * against the registered hosts first, so the requests to the other hosts are
+ * let through at almost no cost.
+ */
+public final class ContentRouter implements InterceptUrlRequestCallback {
+
+    private final Map<String, PathTrie<ContentSource>> routes;
+    private final boolean[] hostLengths;
+
+    private ContentRouter(Builder builder) {
+        this.routes = Map.copyOf(builder.routes);
+        var maxLength = 0;
+        for (var host : routes.keySet()) {
+            maxLength = Math.max(maxLength, host.length());
+        }
+        this.hostLengths = new boolean[maxLength + 1];
+        for (var host : routes.keySet()) {
+            hostLengths[host.length()] = true;
+        }
+    }
+
+    /**
+     * Creates a new builder of the router.
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    @Override
+    public Response on(Params params) {
+        var url = params.urlRequest().url();
+        var start = RequestUrls.hostStart(url);
+        if (start < 0) {
+            return Response.proceed();
+        }
+        var end = RequestUrls.hostEnd(url, start);
+        var length = end - start;
+        if (length >= hostLengths.length || !hostLengths[length]) {
+            // None of the hosts has the length of this one.
+            return Response.proceed();
+        }
+        var paths = routes.get(url.substring(start, end).toLowerCase(ROOT));
+        if (paths == null) {
+            return Response.proceed();
+        }
+        String path;
+        try {
+            path = URI.create(url).getPath();
+        } catch (IllegalArgumentException e) {
+            return Response.proceed();
+        }
+        var match = paths.find(path == null ? "" : path);
+        if (match.isEmpty()) {
+            return Response.proceed();
+        }
+        return match.get().value().serve(params, match.get().rest());
+    }
+
+    /**
+     * A builder of {@link ContentRouter}.
+     */
+    public static final class Builder {
+
+        private final Map<String, PathTrie<ContentSource>> routes =
+                new HashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Routes all the requests to the domain of the given source to it.
+         *
+         * @param source the source to serve the requests
+         */
+        public Builder route(ContentSource source) {
+            return route("/", source);
+        }
+
+        /**
+         * Routes the requests to the domain of the given source whose path
+         * starts with the given prefix to it.
+         *
+         * <p>The prefix is matched by the whole path segments. If several
+         * prefixes match the path, the longest one is used.
+         *
+         * @param pathPrefix the prefix of the path, for example,
+         *                   {@code /assets}
+         * @param source     the source to serve the requests
+         * @throws IllegalArgumentException if the prefix of this domain is
+         *                                  already routed
+         */
+        public Builder route(String pathPrefix, ContentSource source) {
+            checkNotNull(pathPrefix);
+            checkNotNull(source);
+            var host = source.domain().toLowerCase(ROOT);
+            var paths = routes.computeIfAbsent(host, key -> new PathTrie<>());
+            checkArgument(paths.put(pathPrefix, source),
+                    "The path prefix %s of %s is already routed.", pathPrefix,
+                    host);
+            return this;
+        }
+
+        /**
+         * Creates the router.
+         */
+        public ContentRouter build() {
+            return new ContentRouter(this);
+        }
+    }
+}
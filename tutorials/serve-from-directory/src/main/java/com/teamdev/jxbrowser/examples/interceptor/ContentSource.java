@@ -0,0 +1,57 @@
+/*
+ *  Copyright 2026, TeamDev. All rights reserved.
+ *
+ *  Redistribution and use in source and/or binary forms, with or without
+ *  modification, must retain the above copyright notice and the following
+ *  disclaimer.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ *  "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ *  LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ *  A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ *  OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ *  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ *  LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *  DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *  THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ *  OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.teamdev.jxbrowser.examples.interceptor;
+
+import com.teamdev.jxbrowser.net.callback.InterceptUrlRequestCallback.Params;
+import com.teamdev.jxbrowser.net.callback.InterceptUrlRequestCallback.Response;
+
+/**
+ * A source of the content of a domain that can be routed by
+ * {@link ContentRouter}.
+ *
+ * <p>The content interceptors of this package are such sources. Implement
+ * this interface to route the requests to the content that they do not
+ * cover, for example, the content generated on the fly by
+ * {@code GeneratedContentSource}:
+ *
+ * <pre>{@code
+ * var router = ContentRouter.newBuilder()
+ *         .route(new DomainToFolderInterceptor("app.local", webRoot))
+ *         .route("/api", new GeneratedContentSource("app.local"))
+ *         .build();
+ * }</pre>
+ */
+public interface ContentSource {
+
+    /**
+     * Returns the domain this source serves the content for.
+     */
+    String domain();
+
+    /**
+     * Serves the content of the given {@code path} for the given request.
+     *
+     * <p>The path has no leading slash and no path prefix it is routed by.
+     * For example, if the source is routed by the {@code /api} prefix,
+     * {@code app.local/api/users} is served as {@code users}.
+     */
+    Response serve(Params params, String path);
+}
@@ -20,17 +20,32 @@
 
 package com.teamdev.jxbrowser.examples.interceptor;
 
+import static com.teamdev.jxbrowser.logging.Logger.warn;
 import static com.teamdev.jxbrowser.net.HttpStatus.INTERNAL_SERVER_ERROR;
 import static com.teamdev.jxbrowser.net.HttpStatus.NOT_FOUND;
+import static com.teamdev.jxbrowser.net.HttpStatus.NOT_MODIFIED;
 import static com.teamdev.jxbrowser.net.HttpStatus.OK;
+import static com.teamdev.jxbrowser.net.HttpStatus.PARTIAL_CONTENT;
+import static com.teamdev.jxbrowser.net.HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE;
+import static java.util.concurrent.TimeUnit.SECONDS;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.teamdev.jxbrowser.net.HttpHeader;
 import com.teamdev.jxbrowser.net.HttpStatus;
+import com.teamdev.jxbrowser.net.NetError;
 import com.teamdev.jxbrowser.net.UrlRequestJob;
 import com.teamdev.jxbrowser.net.callback.InterceptUrlRequestCallback;
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.URI;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * A base URL interceptor that serves content for a specific domain by
@@ -40,42 +55,120 @@ import java.net.URI;
  * <ul>
  *     <li>Intercepts only requests whose host matches the configured domain.</li>
  *     <li>Delegates the content lookup to {@link #openContent(String)}.</li>
- *     <li>Streams the returned content into the {@link UrlRequestJob}.</li>
+ *     <li>Writes the returned content into the {@link UrlRequestJob} in
+ *     chunks of a fixed size.</li>
+ *     <li>Keeps the recently served small files in memory, so that they are
+ *     not read again while they stay the same.</li>
+ *     <li>Serves the byte range requested by the {@code Range} header with
+ *     the {@code 206 Partial Content} status, so that the media elements
+ *     can seek without loading the whole file.</li>
+ *     <li>Sends the {@code ETag}, {@code Last-Modified}, and
+ *     {@code Cache-Control} headers, and answers the conditional requests
+ *     with {@code 304 Not Modified}, so that Chromium can reuse the content
+ *     from its cache.</li>
+ *     <li>Serves the precompressed {@code .br} and {@code .gz} variants of
+ *     the content if enabled and accepted by Chromium.</li>
+ *     <li>Writes the response bodies on a bounded pool of I/O threads if
+ *     enabled, so that the thread that delivers the requests is not blocked
+ *     by reading the content.</li>
  * </ul>
  *
  * <p>Subclasses need to provide the logic that locates the content (for example,
- * on disk or on the classpath) and returns it as an {@link InputStream}.
- * The MIME type is derived from the requested path by this base class.
+ * on disk or on the classpath) and returns it as {@link Content}.
+ * The MIME type is derived from the requested path by this base class, or
+ * from the content itself if the path has no known extension and the content
+ * sniffing is enabled.
  */
-abstract class DomainContentInterceptor implements InterceptUrlRequestCallback {
+public abstract class DomainContentInterceptor
+        implements InterceptUrlRequestCallback, ContentSource {
 
     private static final String CONTENT_TYPE = "Content-Type";
+    private static final String ACCEPT_RANGES = "Accept-Ranges";
+    private static final String CONTENT_RANGE = "Content-Range";
+    private static final String RANGE = "Range";
+    private static final String IF_RANGE = "If-Range";
+    private static final String ETAG = "ETag";
+    private static final String LAST_MODIFIED = "Last-Modified";
+    private static final String CACHE_CONTROL = "Cache-Control";
+    private static final String IF_NONE_MATCH = "If-None-Match";
+    private static final String IF_MODIFIED_SINCE = "If-Modified-Since";
+    private static final String BYTES = "bytes";
+    private static final String WEAK_PREFIX = "W/";
+    private static final String ACCEPT_ENCODING = "Accept-Encoding";
+    private static final String CONTENT_ENCODING = "Content-Encoding";
+    private static final String VARY = "Vary";
+    private static final long IO_THREAD_KEEP_ALIVE_SECONDS = 30;
+
     private final String domain;
+    private final ContentCache cache;
+    private final String cacheControl;
+    private final boolean precompressed;
+    private final boolean compressOnDemand;
+    private final boolean sniffContentType;
+    private final ThreadPoolExecutor executor;
 
-    DomainContentInterceptor(String domain) {
+    DomainContentInterceptor(String domain, InterceptorOptions options) {
         this.domain = domain;
+        this.cacheControl = options.cacheControl();
+        this.precompressed = options.servePrecompressed();
+        this.compressOnDemand = options.compressOnDemand();
+        this.sniffContentType = options.sniffContentType();
+        this.cache = options.cacheCapacity() > 0
+                ? new ContentCache(options.cacheCapacity())
+                : null;
+        this.executor = options.ioThreads() > 0
+                ? newIoExecutor(options.ioThreads(), options.ioQueueCapacity())
+                : null;
+    }
+
+    /**
+     * Creates the executor that writes the response bodies.
+     *
+     * <p>The executor is bounded by the number of threads and the queue
+     * capacity. When both are exhausted, the body is written by the thread
+     * that submits it. The threads are daemons and stop when idle, so the
+     * executor does not need to be shut down.
+     */
+    private static ThreadPoolExecutor newIoExecutor(int threads,
+            int queueCapacity) {
+        var threadFactory = new ThreadFactoryBuilder()
+                .setNameFormat("content-io-%d")
+                .setDaemon(true)
+                .build();
+        var executor = new ThreadPoolExecutor(threads, threads,
+                IO_THREAD_KEEP_ALIVE_SECONDS, SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory,
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
     }
 
     @Override
     public Response on(Params params) {
-        var uri = URI.create(params.urlRequest().url());
-        if (!uri.getHost().equals(domain)) {
+        var url = params.urlRequest().url();
+        if (!RequestUrls.hasHost(url, domain)) {
             // Let Chromium process requests to other domains as usual.
             return Response.proceed();
         }
-        var path = uri.getPath().substring(1);
-        try (var content = openContent(path)) {
+        var path = URI.create(url).getPath().substring(1);
+        return serve(params, path);
+    }
+
+    @Override
+    public String domain() {
+        return domain;
+    }
+
+    @Override
+    public Response serve(Params params, String path) {
+        try {
+            var content = openContent(path);
             if (content == null) {
                 var job = createJob(params, NOT_FOUND);
                 job.complete();
                 return Response.intercept(job);
             }
-            var mimeType = MimeTypes.mimeType(path);
-            var contentType = HttpHeader.of(CONTENT_TYPE, mimeType);
-            var job = createJob(params, OK, contentType);
-            writeToJob(content, job);
-            job.complete();
-            return Response.intercept(job);
+            return respond(params, path, content);
         } catch (IOException e) {
             // Return 500 response when the file read failed.
             var job = createJob(params, INTERNAL_SERVER_ERROR);
@@ -86,6 +179,215 @@ abstract class DomainContentInterceptor implements InterceptUrlRequestCallback {
         }
     }
 
+    /**
+     * Responds with the given {@code content} of the given {@code path}, or
+     * its precompressed variant.
+     *
+     * <p>This method takes over the content and closes it once the response
+     * is written.
+     */
+    private Response respond(Params params, String path, Content content)
+            throws IOException {
+        String mimeType;
+        Optional<Variant> variant;
+        try {
+            mimeType = mimeType(path, content);
+            variant = precompressed
+                    ? openVariant(params, path, mimeType, content)
+                    : Optional.empty();
+        } catch (IOException | RuntimeException e) {
+            content.close();
+            throw e;
+        }
+        if (variant.isEmpty()) {
+            return respond(params, path, content, mimeType, Optional.empty());
+        }
+        content.close();
+        return respond(params, variant.get().path, variant.get().content,
+                mimeType, Optional.of(variant.get().encoding));
+    }
+
+    /**
+     * Responds with the given {@code content} of the given {@code path}
+     * encoded with the given encoding, if any.
+     *
+     * <p>This method takes over the content and closes it once the response
+     * is written.
+     */
+    private Response respond(Params params, String path, Content content,
+            String mimeType, Optional<String> contentEncoding)
+            throws IOException {
+        var sent = false;
+        try {
+            var etag = EntityTags.of(content, contentEncoding);
+            var lastModified = content.lastModified().map(HttpDates::truncate);
+            var headers = new ArrayList<HttpHeader>();
+            headers.add(HttpHeader.of(ETAG, etag));
+            lastModified.ifPresent(time -> headers.add(
+                    HttpHeader.of(LAST_MODIFIED, HttpDates.format(time))));
+            headers.add(HttpHeader.of(CACHE_CONTROL, cacheControl));
+            if (precompressed) {
+                headers.add(HttpHeader.of(VARY, ACCEPT_ENCODING));
+            }
+            if (isNotModified(params, etag, lastModified)) {
+                var job = createJob(params, NOT_MODIFIED, headers);
+                job.complete();
+                return Response.intercept(job);
+            }
+            headers.add(HttpHeader.of(CONTENT_TYPE, mimeType));
+            contentEncoding.ifPresent(encoding ->
+                    headers.add(HttpHeader.of(CONTENT_ENCODING, encoding)));
+            var size = content.size();
+            if (size >= 0) {
+                headers.add(HttpHeader.of(ACCEPT_RANGES, BYTES));
+            }
+            var range = requestedRange(params, content, etag, lastModified);
+            if (range.isEmpty()) {
+                var job = createJob(params, OK, headers);
+                sent = true;
+                return send(job, content, () -> write(path, content, job));
+            }
+            headers.add(HttpHeader.of(CONTENT_RANGE,
+                    range.get().contentRange(size)));
+            if (range.get() == ByteRange.UNSATISFIABLE) {
+                var job = createJob(params, REQUESTED_RANGE_NOT_SATISFIABLE,
+                        headers);
+                job.complete();
+                return Response.intercept(job);
+            }
+            var job = createJob(params, PARTIAL_CONTENT, headers);
+            sent = true;
+            return send(job, content,
+                    () -> write(path, content, job, range.get()));
+        } finally {
+            if (!sent) {
+                content.close();
+            }
+        }
+    }
+
+    /**
+     * Writes the body of the response into the given {@code job}, completes
+     * it, and closes the given {@code content}.
+     *
+     * <p>If the I/O executor is configured, the body is written by it, and
+     * the job is returned right away. If the executor is busy, the body is
+     * written by the calling thread, which slows down the new requests until
+     * the executor catches up. A job that fails while its body is written is
+     * failed with {@link NetError#FAILED}, because its status has been sent
+     * already.
+     */
+    private Response send(UrlRequestJob job, Content content, Body body)
+            throws IOException {
+        if (executor == null) {
+            writeBody(job, content, body);
+            return Response.intercept(job);
+        }
+        try {
+            executor.execute(() -> writeBody(job, content, body));
+        } catch (RejectedExecutionException e) {
+            content.close();
+            throw e;
+        }
+        return Response.intercept(job);
+    }
+
+    /**
+     * Writes the body of the response into the given {@code job} and
+     * finishes it, then closes the given {@code content}.
+     */
+    private static void writeBody(UrlRequestJob job, Content content,
+            Body body) {
+        try (content) {
+            body.write();
+        } catch (IOException | RuntimeException e) {
+            warn("Couldn't write the response: " + e.getMessage());
+            job.fail(NetError.FAILED);
+            return;
+        }
+        job.complete();
+    }
+
+    /**
+     * Returns the MIME type of the given {@code content} of the given
+     * {@code path}.
+     *
+     * <p>The type is derived from the extension of the path. If the extension
+     * is not recognized, and the content sniffing is enabled, the type is
+     * derived from the leading bytes of the content.
+     */
+    private String mimeType(String path, Content content) throws IOException {
+        var mimeType = MimeTypes.byExtension(path);
+        if (mimeType.isPresent() || !sniffContentType) {
+            return mimeType.orElse(MimeTypes.OCTET_STREAM);
+        }
+        try (var stream = content.newInputStream()) {
+            var head = new byte[MimeTypes.SNIFF_LENGTH];
+            var length = stream.readNBytes(head, 0, head.length);
+            return MimeTypes.sniff(head, length);
+        }
+    }
+
+    /**
+     * Opens the precompressed variant of the given {@code content} in the
+     * most preferred encoding accepted by the client.
+     *
+     * <p>The variant is ignored if it is older than the original content. If
+     * it is missing or outdated, and the compression on demand is enabled,
+     * the gzip variant is written next to the original file first.
+     */
+    private Optional<Variant> openVariant(Params params, String path,
+            String mimeType, Content content) throws IOException {
+        var acceptEncoding = header(params, ACCEPT_ENCODING);
+        if (acceptEncoding.isEmpty()) {
+            return Optional.empty();
+        }
+        for (var encoding : ContentEncodings.accepted(acceptEncoding.get())) {
+            var variantPath = ContentEncodings.variantPath(path, encoding);
+            var variant = openContent(variantPath);
+            if (variant != null && !isFresh(variant, content)) {
+                variant.close();
+                variant = null;
+            }
+            if (variant == null && compressOnDemand
+                    && encoding.equals(ContentEncodings.GZIP)
+                    && ContentEncodings.isCompressible(mimeType, content.size())
+                    && compress(path)) {
+                variant = openContent(variantPath);
+            }
+            if (variant != null) {
+                return Optional.of(new Variant(variantPath, encoding, variant));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static boolean isFresh(Content variant, Content content) {
+        var variantModified = variant.lastModified();
+        var contentModified = content.lastModified();
+        return variantModified.isEmpty() || contentModified.isEmpty()
+                || !variantModified.get().isBefore(contentModified.get());
+    }
+
+    /**
+     * Writes the gzip variant of the file of the given {@code path}.
+     *
+     * @return {@code true} if the variant has been written
+     */
+    private boolean compress(String path) {
+        var file = file(path);
+        if (file.isEmpty()) {
+            return false;
+        }
+        try {
+            ContentEncodings.gzip(file.get());
+            return true;
+        } catch (IOException e) {
+            warn("Couldn't compress " + file.get() + ": " + e.getMessage());
+            return false;
+        }
+    }
+
     /**
      * Locates the content for the given {@code uri}.
      *
@@ -93,10 +395,167 @@ abstract class DomainContentInterceptor implements InterceptUrlRequestCallback {
      * {@code null}. If the content cannot be read, it should throw an
      * {@link IOException}.
      */
-    protected abstract InputStream openContent(String path) throws IOException;
+    protected abstract Content openContent(String path) throws IOException;
+
+    /**
+     * Returns the writable file that stores the content of the given
+     * {@code path}, if any.
+     *
+     * <p>The compressed variants of the content are written next to this
+     * file. By default, the content is not stored in a file.
+     */
+    protected Optional<Path> file(String path) {
+        return Optional.empty();
+    }
+
+    /**
+     * Drops the cached data of the content of the given {@code path}, because
+     * the content has changed.
+     */
+    void invalidate(String path) {
+        if (cache != null) {
+            cache.invalidate(path);
+        }
+    }
+
+    /**
+     * Returns the statistics of the content cache.
+     *
+     * <p>If the cache is disabled, all the counters are zero.
+     */
+    public CacheStatistics cacheStatistics() {
+        return cache == null
+                ? new CacheStatistics(0, 0, 0, 0, 0, 0)
+                : cache.statistics();
+    }
+
+    /**
+     * Checks if the client already has the current version of the content
+     * according to the {@code If-None-Match} or, if it is absent, the
+     * {@code If-Modified-Since} header.
+     */
+    private static boolean isNotModified(Params params, String etag,
+            Optional<Instant> lastModified) {
+        var ifNoneMatch = header(params, IF_NONE_MATCH);
+        if (ifNoneMatch.isPresent()) {
+            for (var tag : ifNoneMatch.get().split(",")) {
+                var value = tag.trim();
+                if (value.startsWith(WEAK_PREFIX)) {
+                    value = value.substring(WEAK_PREFIX.length());
+                }
+                if (value.equals("*") || value.equals(etag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        var ifModifiedSince =
+                header(params, IF_MODIFIED_SINCE).flatMap(HttpDates::parse);
+        return ifModifiedSince.isPresent() && lastModified.isPresent()
+                && !lastModified.get().isAfter(ifModifiedSince.get());
+    }
+
+    /**
+     * Returns the range of the content requested by the {@code Range} header.
+     *
+     * <p>The range is ignored if the size of the content is unknown, or the
+     * {@code If-Range} header shows that the client has a different version
+     * of the content.
+     */
+    private static Optional<ByteRange> requestedRange(Params params,
+            Content content, String etag, Optional<Instant> lastModified) {
+        var size = content.size();
+        var range = header(params, RANGE);
+        if (size < 0 || range.isEmpty()) {
+            return Optional.empty();
+        }
+        var ifRange = header(params, IF_RANGE);
+        if (ifRange.isPresent()
+                && !matches(ifRange.get().trim(), etag, lastModified)) {
+            return Optional.empty();
+        }
+        return ByteRange.parse(range.get(), size);
+    }
+
+    /**
+     * Checks if the given value of the {@code If-Range} header matches the
+     * current version of the content.
+     *
+     * <p>The value is either an entity tag that must be equal to the current
+     * one, or a date that must be equal to the last modification time.
+     */
+    private static boolean matches(String ifRange, String etag,
+            Optional<Instant> lastModified) {
+        if (ifRange.startsWith("\"") || ifRange.startsWith(WEAK_PREFIX)) {
+            return ifRange.equals(etag);
+        }
+        var date = HttpDates.parse(ifRange);
+        return date.isPresent() && date.equals(lastModified);
+    }
+
+    /**
+     * Returns the value of the request header with the given name.
+     */
+    private static Optional<String> header(Params params, String name) {
+        for (var header : params.httpHeaders()) {
+            if (header.name().equalsIgnoreCase(name)) {
+                return Optional.of(header.value());
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Writes the given {@code range} of the given {@code content} of the
+     * given {@code path} into the job.
+     *
+     * <p>If the content is cached, the range is taken from the cache.
+     * Otherwise, only the requested range is read.
+     */
+    private void write(String path, Content content, UrlRequestJob job,
+            ByteRange range) throws IOException {
+        var cached = cache == null
+                ? Optional.<byte[]>empty()
+                : cache.get(path, content.version());
+        if (cached.isPresent()) {
+            var from = (int) range.start();
+            job.write(Arrays.copyOfRange(cached.get(), from,
+                    from + (int) range.length()));
+        } else {
+            content.writeTo(job, range.start(), range.length());
+        }
+    }
+
+    /**
+     * Writes the given {@code content} of the given {@code path} into the
+     * job, taking it from the cache if possible.
+     */
+    private void write(String path, Content content, UrlRequestJob job)
+            throws IOException {
+        if (cache == null) {
+            content.writeTo(job);
+            return;
+        }
+        var version = content.version();
+        var cached = cache.get(path, version);
+        if (cached.isPresent()) {
+            job.write(cached.get());
+        } else if (cache.accepts(content.size())) {
+            var bytes = content.readAllBytes();
+            cache.put(path, version, bytes);
+            job.write(bytes);
+        } else {
+            content.writeTo(job);
+        }
+    }
 
     private UrlRequestJob createJob(Params params, HttpStatus status,
             HttpHeader... headers) {
+        return createJob(params, status, Arrays.asList(headers));
+    }
+
+    private UrlRequestJob createJob(Params params, HttpStatus status,
+            List<HttpHeader> headers) {
         var options = UrlRequestJob.Options.newBuilder(status);
         for (var header : headers) {
             options.addHttpHeader(header);
@@ -105,11 +564,30 @@ abstract class DomainContentInterceptor implements InterceptUrlRequestCallback {
     }
 
     /**
-     * Writes content of the input stream into the HTTP response.
+     * A precompressed variant of the content.
      */
-    private void writeToJob(InputStream stream, UrlRequestJob job)
-            throws IOException {
-        var content = stream.readAllBytes();
-        job.write(content);
+    private static final class Variant {
+
+        private final String path;
+        private final String encoding;
+        private final Content content;
+
+        private Variant(String path, String encoding, Content content) {
+            this.path = path;
+            this.encoding = encoding;
+            this.content = content;
+        }
+    }
+
+    /**
+     * The body of a response.
+     */
+    @FunctionalInterface
+    private interface Body {
+
+        /**
+         * Writes the body into the job of the response.
+         */
+        void write() throws IOException;
     }
 }
@@ -0,0 +1,107 @@
+/*
+ *  Copyright 2026, TeamDev. All rights reserved.
+ *
+ *  Redistribution and use in source and/or binary forms, with or without
+ *  modification, must retain the above copyright notice and the following
+ *  disclaimer.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ *  "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ *  LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ *  A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ *  OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ *  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ *  LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *  DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *  THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ *  OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.teamdev.jxbrowser.examples.interceptor;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * An interceptor that treats every URL under the given domain as a path to
+ * an entry of a zip or jar archive and loads it.
+ *
+ * <p>The interceptor is configured with the domain name and the archive. For
+ * every request, it takes the path component of the URL and looks for the
+ * entry of this name in the archive. That means a request to
+ * {@code example.com/docs/index.html} will load {@code docs/index.html}
+ * entry from the archive. The MIME type of the entry is derived
+ * automatically.
+ *
+ * <p>The central directory of the archive is read once when the interceptor
+ * is created, and the archive is mapped into memory. The stored entries are
+ * served straight from the mapped archive, and the deflated ones are
+ * inflated while they are written into the response.
+ *
+ * <p>This interceptor responds with the following status codes:
+ *
+ * <ul>
+ *     <li><b>200 OK</b> - the entry was found and read properly.
+ *         In this case, the {@code Content-Type} header is sent.</li>
+ *     <li><b>206 Partial Content</b> - the range of the entry requested by
+ *         the {@code Range} header was read properly. In this case, the
+ *         {@code Content-Range} header is sent.</li>
+ *     <li><b>304 Not Modified</b> - the client already has the current
+ *         version of the entry according to the {@code If-None-Match} or the
+ *         {@code If-Modified-Since} header.</li>
+ *     <li><b>404 Not Found</b> - the entry could not be found.</li>
+ *     <li><b>416 Range Not Satisfiable</b> - the requested range lies
+ *         outside the entry.</li>
+ *     <li><b>500 Internal Server Error</b> - couldn't read the entry.</li>
+ * </ul>
+ *
+ * <p>This interceptor considers only the path component of the URL request.
+ * It ignores request parameters and all the headers except the range and the
+ * conditional request ones.
+ *
+ * <p>The archive is not expected to change while the application is running,
+ * so the small entries are cached in memory once read.
+ */
+public final class DomainToArchiveInterceptor extends DomainContentInterceptor {
+
+    private final ArchiveIndex index;
+
+    /**
+     * Creates a URL interceptor for the given domain to load entries from the
+     * given archive.
+     *
+     * @param domain  a domain name to intercept
+     * @param archive a path to the zip or jar archive with files to load
+     * @throws IOException if the archive cannot be read, or it is not a
+     *                     supported zip archive
+     */
+    public DomainToArchiveInterceptor(String domain, Path archive)
+            throws IOException {
+        this(domain, archive, InterceptorOptions.defaults());
+    }
+
+    /**
+     * Creates a URL interceptor for the given domain to load entries from the
+     * given archive as configured by the given options.
+     *
+     * @param domain  a domain name to intercept
+     * @param archive a path to the zip or jar archive with files to load
+     * @param options the options that configure how the entries are served
+     * @throws IOException if the archive cannot be read, or it is not a
+     *                     supported zip archive
+     */
+    public DomainToArchiveInterceptor(String domain, Path archive,
+            InterceptorOptions options) throws IOException {
+        super(domain, options);
+        this.index = ArchiveIndex.load(archive.toAbsolutePath());
+    }
+
+    /**
+     * Looks up the entry of the requested path in the archive index.
+     */
+    @Override
+    protected Content openContent(String path) {
+        return index.entry(path).map(Content::of).orElse(null);
+    }
+}
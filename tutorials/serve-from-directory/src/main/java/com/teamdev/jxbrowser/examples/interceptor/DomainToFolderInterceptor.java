@@ -20,13 +20,15 @@
 
 package com.teamdev.jxbrowser.examples.interceptor;
 
+import static com.teamdev.jxbrowser.logging.Logger.warn;
 import static java.nio.file.Files.exists;
 import static java.nio.file.Files.isDirectory;
 
-import java.io.FileInputStream;
+import java.io.Closeable;
+import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
 import java.nio.file.Path;
+import java.util.Optional;
 
 /**
  * An interceptor that treats every URL under the given domain as a path to a
@@ -44,16 +46,35 @@ import java.nio.file.Path;
  * <ul>
  *     <li><b>200 OK</b> - the file was found and read properly.
  *         In this case, the {@code Content-Type} header is sent.</li>
+ *     <li><b>206 Partial Content</b> - the range of the file requested by
+ *         the {@code Range} header was read properly. In this case, the
+ *         {@code Content-Range} header is sent.</li>
+ *     <li><b>304 Not Modified</b> - the client already has the current
+ *         version of the file according to the {@code If-None-Match} or the
+ *         {@code If-Modified-Since} header.</li>
  *     <li><b>404 Not Found</b> - the file could not be found.</li>
+ *     <li><b>416 Range Not Satisfiable</b> - the requested range lies
+ *         outside the file.</li>
  *     <li><b>500 Internal Server Error</b> - couldn't read the file.</li>
  * </ul>
  *
  * <p>This interceptor considers only the path component of the URL request.
- * It ignores request parameters and headers.
+ * It ignores request parameters and all the headers except the range and the
+ * conditional request ones.
+ *
+ * <p>The small files are cached in memory. A cached file is served again only
+ * if its size and the last modification time have not changed.
+ *
+ * <p>If {@linkplain InterceptorOptions.Builder#watchContentRoot() enabled},
+ * the files of the content directory are indexed in memory, and the index is
+ * updated as the files change. In this case, the requests are served without
+ * querying the file system for the file attributes.
  */
-public final class DomainToFolderInterceptor extends DomainContentInterceptor {
+public final class DomainToFolderInterceptor extends DomainContentInterceptor
+        implements Closeable {
 
     private final Path contentRoot;
+    private final ContentRootIndex index;
 
     /**
      * Creates a URL interceptor for the given domain to load files from the
@@ -63,19 +84,101 @@ public final class DomainToFolderInterceptor extends DomainContentInterceptor {
      * @param contentRoot a path to the directory with files to load
      */
     public DomainToFolderInterceptor(String domain, Path contentRoot) {
-        super(domain);
-        this.contentRoot = contentRoot.toAbsolutePath();
+        this(domain, contentRoot, InterceptorOptions.defaults());
+    }
+
+    /**
+     * Creates a URL interceptor for the given domain to load files from the
+     * given directory as configured by the given options.
+     *
+     * @param domain      a domain name to intercept
+     * @param contentRoot a path to the directory with files to load
+     * @param options     the options that configure how the files are served
+     */
+    public DomainToFolderInterceptor(String domain, Path contentRoot,
+            InterceptorOptions options) {
+        super(domain, options);
+        this.contentRoot = contentRoot.toAbsolutePath().normalize();
+        this.index = options.watchContentRoot()
+                ? watch(this.contentRoot)
+                : null;
+    }
+
+    /**
+     * Starts watching the content directory.
+     *
+     * <p>If the directory cannot be watched, the files are looked up on disk
+     * on every request.
+     */
+    private ContentRootIndex watch(Path contentRoot) {
+        try {
+            return ContentRootIndex.watch(contentRoot, file -> invalidate(
+                    toRequestPath(contentRoot.relativize(file))));
+        } catch (IOException e) {
+            warn("Couldn't watch " + contentRoot + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static String toRequestPath(Path relativePath) {
+        return relativePath.toString().replace(File.separatorChar, '/');
     }
 
     /**
      * Resolves the requested path to a file and opens it.
+     *
+     * <p>The file is read chunk by chunk while it is written into the
+     * response, so serving large files does not require much memory. The
+     * paths that lead outside the content directory are not found.
      */
     @Override
-    protected InputStream openContent(String path) throws IOException {
-        var filePath = contentRoot.resolve(path);
+    protected Content openContent(String path) throws IOException {
+        var resolved = resolve(path);
+        if (resolved.isEmpty()) {
+            return null;
+        }
+        var filePath = resolved.get();
+        if (index != null) {
+            return index.attributes(filePath)
+                    .map(attributes -> Content.of(filePath, attributes))
+                    .orElse(null);
+        }
         if (exists(filePath) && !isDirectory(filePath)) {
-            return new FileInputStream(filePath.toFile());
+            return Content.of(filePath);
         }
         return null;
     }
+
+    /**
+     * Returns the file the requested path is resolved to, unless it is
+     * outside the content directory.
+     */
+    @Override
+    protected Optional<Path> file(String path) {
+        return resolve(path);
+    }
+
+    /**
+     * Resolves the requested path against the content directory.
+     *
+     * <p>The path is decoded already, so it may contain {@code ..} segments
+     * and slashes that lead outside the content directory. Such paths are not
+     * resolved.
+     */
+    private Optional<Path> resolve(String path) {
+        var file = contentRoot.resolve(path).normalize();
+        return file.startsWith(contentRoot) && !file.equals(contentRoot)
+                ? Optional.of(file)
+                : Optional.empty();
+    }
+
+    /**
+     * Stops watching the content directory, if it is watched.
+     */
+    @Override
+    public void close() throws IOException {
+        if (index != null) {
+            index.close();
+        }
+    }
 }
@@ -20,7 +20,7 @@
 
 package com.teamdev.jxbrowser.examples.interceptor;
 
-import java.io.InputStream;
+import java.io.IOException;
 
 /**
  * An interceptor that treats every URL under the given domain as a path to a
@@ -38,12 +38,24 @@ import java.io.InputStream;
  * <ul>
  *     <li><b>200 OK</b> - the file was found and read properly.
  *         In this case, the {@code Content-Type} header is sent.</li>
+ *     <li><b>206 Partial Content</b> - the range of the file requested by
+ *         the {@code Range} header was read properly. In this case, the
+ *         {@code Content-Range} header is sent.</li>
+ *     <li><b>304 Not Modified</b> - the client already has the current
+ *         version of the file according to the {@code If-None-Match} or the
+ *         {@code If-Modified-Since} header.</li>
  *     <li><b>404 Not Found</b> - the file could not be found.</li>
+ *     <li><b>416 Range Not Satisfiable</b> - the requested range lies
+ *         outside the file.</li>
  *     <li><b>500 Internal Server Error</b> - couldn't read the file.</li>
  * </ul>
  *
  * <p>This interceptor considers only the path component of the URL request.
- * It ignores request parameters and headers.
+ * It ignores request parameters and all the headers except the range and the
+ * conditional request ones.
+ *
+ * <p>The resources do not change while the application is running, so the
+ * small resources are cached in memory once read.
  */
 
 public final class DomainToResourceInterceptor extends
@@ -60,13 +72,28 @@ public final class DomainToResourceInterceptor extends
      *                     under
      */
     public DomainToResourceInterceptor(String domain, String resourceRoot) {
-        super(domain);
+        this(domain, resourceRoot, InterceptorOptions.defaults());
+    }
+
+    /**
+     * Creates a URL interceptor for the given domain to load files from the
+     * given classpath root as configured by the given options.
+     *
+     * @param domain       a domain name to intercept
+     * @param resourceRoot a root path on the classpath to look up resources
+     *                     under
+     * @param options      the options that configure how the files are served
+     */
+    public DomainToResourceInterceptor(String domain, String resourceRoot,
+            InterceptorOptions options) {
+        super(domain, options);
         this.resourceRoot = resourceRoot;
     }
 
-    protected InputStream openContent(String path) {
+    protected Content openContent(String path) throws IOException {
         var resourcePath = toResourcePath(path);
-        return getClass().getClassLoader().getResourceAsStream(resourcePath);
+        var resource = getClass().getClassLoader().getResource(resourcePath);
+        return resource == null ? null : Content.of(resource);
     }
 
     private String toResourcePath(String uriPath) {
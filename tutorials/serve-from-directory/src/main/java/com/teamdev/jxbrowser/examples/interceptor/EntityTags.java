@@ -0,0 +1,62 @@
+/*
+ *  Copyright 2026, TeamDev. All rights reserved.
+ *
+ *  Redistribution and use in source and/or binary forms, with or without
+ *  modification, must retain the above copyright notice and the following
+ *  disclaimer.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ *  "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ *  LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ *  A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ *  OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ *  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ *  LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *  DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *  THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ *  OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.teamdev.jxbrowser.examples.interceptor;
+
+import java.util.Optional;
+
+/**
+ * A utility for deriving the entity tags of the served content.
+ *
+ * <p>The entity tag is derived from the size and the last modification time
+ * of the content, the same way the popular web servers do it, so it changes
+ * whenever the content does, and computing it doesn't require reading the
+ * content. If the modification time is unknown, the
+ * {@linkplain Content#version() version} of the content is used instead.
+ */
+final class EntityTags {
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private EntityTags() {
+    }
+
+    /**
+     * Returns the entity tag of the given {@code content} encoded with the
+     * given encoding, if any, including the quotes.
+     *
+     * <p>The encoding is a part of the tag, so the encoded variant of the
+     * content never has the same tag as the original.
+     */
+    static String of(Content content, Optional<String> contentEncoding) {
+        var tag = new StringBuilder("\"")
+                .append(Long.toHexString(content.size()))
+                .append('-');
+        var lastModified = content.lastModified();
+        if (lastModified.isPresent()) {
+            tag.append(Long.toHexString(lastModified.get().toEpochMilli()));
+        } else {
+            tag.append(content.version());
+        }
+        contentEncoding.ifPresent(encoding -> tag.append('-').append(encoding));
+        return tag.append('"').toString();
+    }
+}
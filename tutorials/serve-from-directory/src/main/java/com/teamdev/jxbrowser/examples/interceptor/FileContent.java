@@ -0,0 +1,138 @@
+/*
+ *  Copyright 2026, TeamDev. All rights reserved.
+ *
+ *  Redistribution and use in source and/or binary forms, with or without
+ *  modification, must retain the above copyright notice and the following
+ *  disclaimer.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ *  "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ *  LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ *  A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ *  OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ *  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ *  LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *  DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *  THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ *  OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.teamdev.jxbrowser.examples.interceptor;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+import com.teamdev.jxbrowser.net.UrlRequestJob;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * The content of a file.
+ *
+ * <p>The file is read through a {@link FileChannel} chunk by chunk, so only
+ * a single chunk is held in memory at a time however large the file is. The
+ * requested part of the file is read with the positional reads, so the rest
+ * of the file is never touched.
+ *
+ * <p>The version of the file is derived from its size and the last
+ * modification time.
+ */
+final class FileContent extends Content {
+
+    private final Path file;
+    private final long size;
+    private final FileTime lastModified;
+    private FileChannel channel;
+
+    FileContent(Path file) throws IOException {
+        this(file, Files.readAttributes(file, BasicFileAttributes.class));
+    }
+
+    FileContent(Path file, BasicFileAttributes attributes) {
+        this.file = file;
+        this.size = attributes.size();
+        this.lastModified = attributes.lastModifiedTime();
+    }
+
+    @Override
+    long size() {
+        return size;
+    }
+
+    @Override
+    String version() {
+        return Long.toHexString(size) + '-'
+                + Long.toHexString(lastModified.toMillis());
+    }
+
+    @Override
+    Optional<Instant> lastModified() {
+        return Optional.of(lastModified.toInstant());
+    }
+
+    @Override
+    void writeTo(UrlRequestJob job) throws IOException {
+        writeTo(job, 0, size);
+    }
+
+    @Override
+    void writeTo(UrlRequestJob job, long offset, long length)
+            throws IOException {
+        var position = offset;
+        var end = offset + length;
+        while (position < end) {
+            var chunk = new byte[(int) Math.min(CHUNK_SIZE, end - position)];
+            read(chunk, position);
+            job.write(chunk);
+            position += chunk.length;
+        }
+    }
+
+    @Override
+    byte[] readAllBytes() throws IOException {
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("The file is too large: " + file);
+        }
+        var bytes = new byte[(int) size];
+        read(bytes, 0);
+        return bytes;
+    }
+
+    @Override
+    InputStream newInputStream() throws IOException {
+        return Files.newInputStream(file);
+    }
+
+    /**
+     * Fills the given {@code chunk} with the bytes of the file that start at
+     * the given {@code position}.
+     */
+    private void read(byte[] chunk, long position) throws IOException {
+        if (channel == null) {
+            channel = FileChannel.open(file, READ);
+        }
+        var buffer = ByteBuffer.wrap(chunk);
+        while (buffer.hasRemaining()) {
+            var read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new EOFException("The file has been truncated: " + file);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+}
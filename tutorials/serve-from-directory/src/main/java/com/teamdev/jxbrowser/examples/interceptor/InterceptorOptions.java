@@ -0,0 +1,293 @@
+/*
+ *  Copyright 2026, TeamDev. All rights reserved.
+ *
+ *  Redistribution and use in source and/or binary forms, with or without
+ *  modification, must retain the above copyright notice and the following
+ *  disclaimer.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ *  "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ *  LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ *  A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ *  OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ *  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ *  LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *  DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *  THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ *  OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.teamdev.jxbrowser.examples.interceptor;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The options that configure how an interceptor serves the content.
+ */
+public final class InterceptorOptions {
+
+    private final long cacheCapacity;
+    private final String cacheControl;
+    private final boolean servePrecompressed;
+    private final boolean compressOnDemand;
+    private final boolean sniffContentType;
+    private final boolean watchContentRoot;
+    private final int ioThreads;
+    private final int ioQueueCapacity;
+
+    private InterceptorOptions(Builder builder) {
+        this.cacheCapacity = builder.cacheCapacity;
+        this.cacheControl = builder.cacheControl;
+        this.servePrecompressed = builder.servePrecompressed;
+        this.compressOnDemand = builder.compressOnDemand;
+        this.sniffContentType = builder.sniffContentType;
+        this.watchContentRoot = builder.watchContentRoot;
+        this.ioThreads = builder.ioThreads;
+        this.ioQueueCapacity = builder.ioQueueCapacity;
+    }
+
+    /**
+     * Creates a new builder of the interceptor options.
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the options with the default values.
+     */
+    static InterceptorOptions defaults() {
+        return newBuilder().build();
+    }
+
+    /**
+     * Returns the maximum total size of the cached content in bytes, or
+     * {@code 0} if the content is not cached.
+     */
+    public long cacheCapacity() {
+        return cacheCapacity;
+    }
+
+    /**
+     * Returns the value of the {@code Cache-Control} header sent with the
+     * content.
+     */
+    public String cacheControl() {
+        return cacheControl;
+    }
+
+    /**
+     * Returns {@code true} if the precompressed variants of the content are
+     * served to the clients that accept them.
+     */
+    public boolean servePrecompressed() {
+        return servePrecompressed;
+    }
+
+    /**
+     * Returns {@code true} if the missing gzip variants of the files are
+     * written on the first request.
+     */
+    public boolean compressOnDemand() {
+        return compressOnDemand;
+    }
+
+    /**
+     * Returns {@code true} if the type of the content with no known extension
+     * is derived from its leading bytes.
+     */
+    public boolean sniffContentType() {
+        return sniffContentType;
+    }
+
+    /**
+     * Returns {@code true} if the content directory is indexed in memory and
+     * watched for changes.
+     */
+    public boolean watchContentRoot() {
+        return watchContentRoot;
+    }
+
+    /**
+     * Returns the number of threads that write the response bodies, or
+     * {@code 0} if they are written by the thread that delivers the request.
+     */
+    public int ioThreads() {
+        return ioThreads;
+    }
+
+    /**
+     * Returns the maximum number of the response bodies waiting for a free
+     * I/O thread.
+     */
+    public int ioQueueCapacity() {
+        return ioQueueCapacity;
+    }
+
+    /**
+     * A builder of {@link InterceptorOptions}.
+     */
+    public static final class Builder {
+
+        private long cacheCapacity = 32L * 1024 * 1024;
+        private String cacheControl = "no-cache";
+        private boolean servePrecompressed;
+        private boolean compressOnDemand;
+        private boolean sniffContentType;
+        private boolean watchContentRoot;
+        private int ioThreads;
+        private int ioQueueCapacity = 256;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the maximum total size of the content kept in memory, so that
+         * the frequently requested files are not read again.
+         *
+         * <p>The files larger than one eighth of the capacity are not cached.
+         * The default value is 32 MB. Use {@code 0} to disable the cache.
+         *
+         * @param bytes the capacity of the cache in bytes
+         */
+        public Builder cacheCapacity(long bytes) {
+            checkArgument(bytes >= 0, "The cache capacity must not be "
+                    + "negative.");
+            this.cacheCapacity = bytes;
+            return this;
+        }
+
+        /**
+         * Sets the value of the {@code Cache-Control} header that tells
+         * Chromium how long it can use the content without asking the
+         * interceptor again.
+         *
+         * <p>The content is always sent with the {@code ETag} header, and the
+         * {@code Last-Modified} header if the modification time is known, so
+         * Chromium can revalidate it cheaply and get {@code 304 Not Modified}
+         * if it has not changed.
+         *
+         * <p>The default value is {@code no-cache}, which makes Chromium
+         * revalidate the content every time. Use, for example,
+         * {@code max-age=3600} to use it for an hour without revalidation.
+         *
+         * @param value the value of the header
+         */
+        public Builder cacheControl(String value) {
+            checkNotNull(value);
+            this.cacheControl = value;
+            return this;
+        }
+
+        /**
+         * Makes the interceptor serve the precompressed variants of the
+         * content stored next to it, such as {@code app.js.br} and
+         * {@code app.js.gz} for {@code app.js}, with the corresponding
+         * {@code Content-Encoding} header.
+         *
+         * <p>The variant is chosen according to the {@code Accept-Encoding}
+         * header of the request, preferring Brotli over gzip. A variant older
+         * than the original file is ignored. By default, the content is
+         * always served as is.
+         */
+        public Builder servePrecompressed() {
+            this.servePrecompressed = true;
+            return this;
+        }
+
+        /**
+         * Makes the interceptor write the gzip variant of a text file next to
+         * it on the first request, and serve it from then on.
+         *
+         * <p>This applies only to the interceptors that serve the files from
+         * a writable directory, and enables
+         * {@linkplain #servePrecompressed() serving} of the precompressed
+         * variants. The Brotli variants are not written, because the JDK has
+         * no Brotli encoder, so they need to be created at build time.
+         */
+        public Builder compressOnDemand() {
+            this.servePrecompressed = true;
+            this.compressOnDemand = true;
+            return this;
+        }
+
+        /**
+         * Makes the interceptor derive the type of the content with no known
+         * extension from its leading bytes instead of sending it as
+         * {@code application/octet-stream}.
+         *
+         * <p>The common image, media, font, and archive formats are recognized
+         * by their signatures, and the text is recognized as HTML, XML, SVG,
+         * or plain text. The leading bytes are read on every request of such
+         * content, so this is disabled by default.
+         */
+        public Builder sniffContentType() {
+            this.sniffContentType = true;
+            return this;
+        }
+
+        /**
+         * Makes the interceptor index the files of the content directory in
+         * memory and keep the index up to date by watching the directory.
+         *
+         * <p>This way, the interceptor doesn't query the file system for the
+         * attributes of a file on every request, and drops the cached data of
+         * a file as soon as it changes. The changes are picked up in
+         * milliseconds on Linux and Windows, and in several seconds on macOS.
+         *
+         * <p>This applies only to the interceptors that serve the files from
+         * a directory. By default, the directory is not watched, and the
+         * attributes of a file are read on every request.
+         */
+        public Builder watchContentRoot() {
+            this.watchContentRoot = true;
+            return this;
+        }
+
+        /**
+         * Sets the number of threads that write the response bodies.
+         *
+         * <p>If set, the interceptor decides on the status and the headers of
+         * the response, and returns the job right away, while the body is read
+         * and written into the job by one of these threads. This way, a page
+         * that requests hundreds of files doesn't wait for them one by one.
+         *
+         * <p>The default value is {@code 0}, which means the body is written
+         * before the job is returned.
+         *
+         * @param threads the number of the I/O threads
+         */
+        public Builder ioThreads(int threads) {
+            checkArgument(threads >= 0, "The number of I/O threads must not "
+                    + "be negative.");
+            this.ioThreads = threads;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of the response bodies waiting for a free
+         * I/O thread.
+         *
+         * <p>When the queue is full, the body is written by the thread that
+         * delivers the request, which holds off the new requests until the
+         * I/O threads catch up. The default value is 256.
+         *
+         * @param capacity the capacity of the queue
+         */
+        public Builder ioQueueCapacity(int capacity) {
+            checkArgument(capacity > 0, "The I/O queue capacity must be "
+                    + "positive.");
+            this.ioQueueCapacity = capacity;
+            return this;
+        }
+
+        /**
+         * Creates the interceptor options.
+         */
+        public InterceptorOptions build() {
+            return new InterceptorOptions(this);
+        }
+    }
+}
@@ -21,19 +21,68 @@
 package com.teamdev.jxbrowser.examples.interceptor;
 
 import static com.teamdev.jxbrowser.logging.Logger.warn;
+import static java.nio.charset.StandardCharsets.US_ASCII;
 import static java.util.Locale.ROOT;
 
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
+import java.util.Set;
 
 /**
  * A utility for working with MIME types.
+ *
+ * <p>The table of the MIME types is read once when the class is loaded and
+ * never changes after that, so the lookups need no locking. The text types
+ * in the table already include the {@code charset} parameter.
  */
 final class MimeTypes {
 
-    private static final String OCTET_STREAM = "application/octet-stream";
+    static final String OCTET_STREAM = "application/octet-stream";
+
+    /**
+     * The number of the leading bytes of the content enough to
+     * {@linkplain #sniff(byte[], int) sniff} its type.
+     */
+    static final int SNIFF_LENGTH = 512;
+
     private static final String MIME_TYPES_FILE = "ext-to-mime.properties";
-    private static final Properties MIME_TYPES = MimeTypes.createMap();
+    private static final String CHARSET = "; charset=utf-8";
+    private static final String TEXT_PLAIN = "text/plain";
+    private static final byte[] UTF8_BOM = {(byte) 0xef, (byte) 0xbb,
+            (byte) 0xbf};
+    private static final Set<String> TEXT_TYPES = Set.of(
+            "application/json", "application/ld+json", "application/xml",
+            "application/xhtml+xml", "image/svg+xml");
+    private static final Map<String, String> MIME_TYPES = createMap();
+    private static final List<Signature> SIGNATURES = List.of(
+            new Signature("image/png", 0, 0x89, 'P', 'N', 'G', 0x0d, 0x0a,
+                    0x1a, 0x0a),
+            new Signature("image/gif", 0, "GIF87a"),
+            new Signature("image/gif", 0, "GIF89a"),
+            new Signature("image/jpeg", 0, 0xff, 0xd8, 0xff),
+            new Signature("image/webp", 8, "WEBPVP"),
+            new Signature("image/bmp", 0, "BM"),
+            new Signature("image/vnd.microsoft.icon", 0, 0x00, 0x00, 0x01,
+                    0x00),
+            new Signature("audio/wav", 8, "WAVE"),
+            new Signature("audio/mpeg", 0, "ID3"),
+            new Signature("audio/ogg", 0, "OggS"),
+            new Signature("video/mp4", 4, "ftyp"),
+            new Signature("video/webm", 0, 0x1a, 0x45, 0xdf, 0xa3),
+            new Signature("font/woff", 0, "wOFF"),
+            new Signature("font/woff2", 0, "wOF2"),
+            new Signature("font/otf", 0, "OTTO"),
+            new Signature("font/ttf", 0, 0x00, 0x01, 0x00, 0x00, 0x00),
+            new Signature("application/pdf", 0, "%PDF-"),
+            new Signature("application/zip", 0, 'P', 'K', 0x03, 0x04),
+            new Signature("application/gzip", 0, 0x1f, 0x8b, 0x08),
+            new Signature("application/wasm", 0, 0x00, 'a', 's', 'm'));
+    private static final List<String> HTML_TAGS = List.of("<!doctype html",
+            "<html", "<head", "<body", "<script", "<!--");
 
     /**
      * Prevents instantiation of this utility class.
@@ -50,13 +99,98 @@ final class MimeTypes {
      * @param fileName the file name
      */
     static String mimeType(String fileName) {
-        var extension = fileName.substring(fileName.lastIndexOf(".") + 1)
+        return byExtension(fileName).orElse(OCTET_STREAM);
+    }
+
+    /**
+     * Derives {@code MimeType} from the extension of the {@code fileName},
+     * if it is recognized.
+     *
+     * @param fileName the file name
+     */
+    static Optional<String> byExtension(String fileName) {
+        var dot = fileName.lastIndexOf('.');
+        if (dot < 0 || dot < fileName.lastIndexOf('/')) {
+            return Optional.empty();
+        }
+        var extension = fileName.substring(dot + 1).toLowerCase(ROOT);
+        return Optional.ofNullable(MIME_TYPES.get(extension));
+    }
+
+    /**
+     * Derives {@code MimeType} from the leading bytes of the content.
+     *
+     * <p>The well-known binary formats are recognized by their signatures.
+     * The text is recognized as HTML, XML, or SVG by its first tag, and as
+     * plain text if it has no control characters. Otherwise,
+     * {@link #OCTET_STREAM} is returned.
+     *
+     * @param head   the leading bytes of the content
+     * @param length the number of the bytes in {@code head}
+     */
+    static String sniff(byte[] head, int length) {
+        for (var signature : SIGNATURES) {
+            if (signature.matches(head, length)) {
+                return signature.mimeType;
+            }
+        }
+        if (isBinary(head, length)) {
+            return OCTET_STREAM;
+        }
+        var start = hasByteOrderMark(head, length) ? UTF8_BOM.length : 0;
+        var text = new String(head, start, length - start, US_ASCII)
+                .stripLeading()
                 .toLowerCase(ROOT);
-        var type = MIME_TYPES.getOrDefault(extension, OCTET_STREAM);
-        return type.toString();
+        for (var tag : HTML_TAGS) {
+            if (text.startsWith(tag)) {
+                return withCharset("text/html");
+            }
+        }
+        if (text.startsWith("<svg")) {
+            return withCharset("image/svg+xml");
+        }
+        if (text.startsWith("<?xml")) {
+            return withCharset(text.contains("<svg")
+                    ? "image/svg+xml"
+                    : "application/xml");
+        }
+        return withCharset(TEXT_PLAIN);
     }
 
-    private static Properties createMap() {
+    /**
+     * Checks if the given bytes contain the control characters that never
+     * appear in text.
+     */
+    private static boolean isBinary(byte[] head, int length) {
+        for (var i = 0; i < length; i++) {
+            var b = head[i];
+            if (b >= 0 && b < 0x20 && b != '\t' && b != '\n' && b != '\f'
+                    && b != '\r' && b != 0x1b) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasByteOrderMark(byte[] head, int length) {
+        if (length < UTF8_BOM.length) {
+            return false;
+        }
+        for (var i = 0; i < UTF8_BOM.length; i++) {
+            if (head[i] != UTF8_BOM[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String withCharset(String mimeType) {
+        return mimeType.startsWith("text/") || TEXT_TYPES.contains(mimeType)
+                ? mimeType + CHARSET
+                : mimeType;
+    }
+
+    private static Map<String, String> createMap() {
         var properties = new Properties();
         var url = MimeTypes.class.getClassLoader().getResource(MIME_TYPES_FILE);
         if (url != null) {
@@ -66,6 +200,48 @@ final class MimeTypes {
                 warn("Couldn't read the list of mime-types");
             }
         }
-        return properties;
+        var types = new HashMap<String, String>();
+        for (var extension : properties.stringPropertyNames()) {
+            types.put(extension.toLowerCase(ROOT),
+                    withCharset(properties.getProperty(extension).trim()));
+        }
+        return Map.copyOf(types);
+    }
+
+    /**
+     * The bytes that a content of a specific type starts with.
+     */
+    private static final class Signature {
+
+        private final String mimeType;
+        private final int offset;
+        private final byte[] bytes;
+
+        private Signature(String mimeType, int offset, String bytes) {
+            this.mimeType = mimeType;
+            this.offset = offset;
+            this.bytes = bytes.getBytes(US_ASCII);
+        }
+
+        private Signature(String mimeType, int offset, int... bytes) {
+            this.mimeType = mimeType;
+            this.offset = offset;
+            this.bytes = new byte[bytes.length];
+            for (var i = 0; i < bytes.length; i++) {
+                this.bytes[i] = (byte) bytes[i];
+            }
+        }
+
+        private boolean matches(byte[] head, int length) {
+            if (length < offset + bytes.length) {
+                return false;
+            }
+            for (var i = 0; i < bytes.length; i++) {
+                if (head[offset + i] != bytes[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
     }
 }
@@ -0,0 +1,138 @@
+/*
+ *  Copyright 2026, TeamDev. All rights reserved.
+ *
+ *  Redistribution and use in source and/or binary forms, with or without
+ *  modification, must retain the above copyright notice and the following
+ *  disclaimer.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ *  "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ *  LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ *  A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ *  OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ *  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ *  LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *  DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *  THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ *  OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.teamdev.jxbrowser.examples.interceptor;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A trie that maps the URL path prefixes to values.
+ *
+ * <p>The prefixes are matched segment by segment, so {@code /app} matches
+ * {@code /app} and {@code /app/index.html}, but not {@code /apple}. The
+ * lookup takes as many steps as there are segments in the path, however many
+ * prefixes there are.
+ *
+ * <p>The trie is not thread-safe while it is filled, and can be read
+ * concurrently once it is safely published.
+ *
+ * @param <T> the type of the values
+ */
+final class PathTrie<T> {
+
+    private final Node<T> root = new Node<>();
+
+    /**
+     * Associates the given {@code value} with the given path {@code prefix}.
+     *
+     * @return {@code false} if the prefix already has a value
+     */
+    boolean put(String prefix, T value) {
+        var node = root;
+        var start = 0;
+        while (start < prefix.length()) {
+            var end = segmentEnd(prefix, start);
+            if (end > start) {
+                node = node.children.computeIfAbsent(
+                        prefix.substring(start, end), segment -> new Node<>());
+            }
+            start = end + 1;
+        }
+        if (node.value != null) {
+            return false;
+        }
+        node.value = value;
+        return true;
+    }
+
+    /**
+     * Finds the value of the longest prefix of the given {@code path}.
+     */
+    Optional<Match<T>> find(String path) {
+        var node = root;
+        var value = root.value;
+        var matchEnd = 0;
+        var start = 0;
+        while (start < path.length()) {
+            var end = segmentEnd(path, start);
+            if (end > start) {
+                node = node.children.get(path.substring(start, end));
+                if (node == null) {
+                    break;
+                }
+                if (node.value != null) {
+                    value = node.value;
+                    matchEnd = end;
+                }
+            }
+            start = end + 1;
+        }
+        if (value == null) {
+            return Optional.empty();
+        }
+        var rest = matchEnd < path.length() ? path.substring(matchEnd) : "";
+        return Optional.of(new Match<>(value,
+                rest.startsWith("/") ? rest.substring(1) : rest));
+    }
+
+    private static int segmentEnd(String path, int start) {
+        var end = path.indexOf('/', start);
+        return end < 0 ? path.length() : end;
+    }
+
+    /**
+     * The value found for a path.
+     *
+     * @param <T> the type of the value
+     */
+    static final class Match<T> {
+
+        private final T value;
+        private final String rest;
+
+        private Match(T value, String rest) {
+            this.value = value;
+            this.rest = rest;
+        }
+
+        /**
+         * Returns the value of the longest matching prefix.
+         */
+        T value() {
+            return value;
+        }
+
+        /**
+         * Returns the rest of the path after the prefix, without the leading
+         * slash.
+         */
+        String rest() {
+            return rest;
+        }
+    }
+
+    private static final class Node<T> {
+
+        private final Map<String, Node<T>> children = new HashMap<>();
+        private T value;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ *  Copyright 2026, TeamDev. All rights reserved.
+ *
+ *  Redistribution and use in source and/or binary forms, with or without
+ *  modification, must retain the above copyright notice and the following
+ *  disclaimer.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ *  "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ *  LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ *  A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ *  OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ *  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ *  LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *  DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *  THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ *  OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.teamdev.jxbrowser.examples.interceptor;
+
+/**
+ * A utility for finding the host in the request URLs without parsing them.
+ *
+ * <p>The interceptors receive every request of the intercepted scheme, and
+ * most of them are let through. These methods find the host by scanning the
+ * URL in place, so checking a request that is let through allocates
+ * nothing.
+ */
+final class RequestUrls {
+
+    private static final String SCHEME_SEPARATOR = "://";
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private RequestUrls() {
+    }
+
+    /**
+     * Returns the index of the first character of the host in the given
+     * {@code url}, or {@code -1} if the URL has no host.
+     */
+    static int hostStart(String url) {
+        var authority = url.indexOf(SCHEME_SEPARATOR);
+        if (authority < 0) {
+            return -1;
+        }
+        var start = authority + SCHEME_SEPARATOR.length();
+        var end = authorityEnd(url, start);
+        var userInfoEnd = url.lastIndexOf('@', end - 1);
+        return userInfoEnd < start ? start : userInfoEnd + 1;
+    }
+
+    /**
+     * Returns the index after the last character of the host that starts at
+     * the given index of the given {@code url}.
+     */
+    static int hostEnd(String url, int hostStart) {
+        var end = authorityEnd(url, hostStart);
+        if (hostStart < end && url.charAt(hostStart) == '[') {
+            // The IPv6 address contains colons, so it ends with the bracket.
+            var bracket = url.indexOf(']', hostStart);
+            return bracket < 0 || bracket >= end ? end : bracket + 1;
+        }
+        var port = url.indexOf(':', hostStart);
+        return port < 0 || port >= end ? end : port;
+    }
+
+    /**
+     * Checks if the host of the given {@code url} is equal to the given
+     * {@code host} ignoring the letter case.
+     */
+    static boolean hasHost(String url, String host) {
+        var start = hostStart(url);
+        if (start < 0) {
+            return false;
+        }
+        var end = hostEnd(url, start);
+        return end - start == host.length()
+                && url.regionMatches(true, start, host, 0, host.length());
+    }
+
+    /**
+     * Returns the index after the last character of the authority that
+     * starts at the given index of the given {@code url}.
+     */
+    private static int authorityEnd(String url, int start) {
+        for (var i = start; i < url.length(); i++) {
+            var c = url.charAt(i);
+            if (c == '/' || c == '?' || c == '#') {
+                return i;
+            }
+        }
+        return url.length();
+    }
+}
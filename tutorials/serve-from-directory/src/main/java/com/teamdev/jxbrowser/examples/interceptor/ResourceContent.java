@@ -0,0 +1,102 @@
+/*
+ *  Copyright 2026, TeamDev. All rights reserved.
+ *
+ *  Redistribution and use in source and/or binary forms, with or without
+ *  modification, must retain the above copyright notice and the following
+ *  disclaimer.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ *  "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ *  LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ *  A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ *  OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ *  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ *  LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *  DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *  THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ *  OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.teamdev.jxbrowser.examples.interceptor;
+
+import com.teamdev.jxbrowser.net.UrlRequestJob;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * The content of a resource located by a URL, for example, a classpath
+ * resource.
+ *
+ * <p>The resource is copied into the job chunk by chunk, so it is never read
+ * into memory completely. The resources are packaged with the application,
+ * so they are considered {@linkplain #IMMUTABLE immutable}.
+ */
+final class ResourceContent extends Content {
+
+    private final URLConnection connection;
+    private InputStream stream;
+
+    ResourceContent(URL resource) throws IOException {
+        this.connection = resource.openConnection();
+    }
+
+    @Override
+    long size() {
+        return connection.getContentLengthLong();
+    }
+
+    @Override
+    String version() {
+        return IMMUTABLE;
+    }
+
+    @Override
+    Optional<Instant> lastModified() {
+        var lastModified = connection.getLastModified();
+        return lastModified > 0
+                ? Optional.of(Instant.ofEpochMilli(lastModified))
+                : Optional.empty();
+    }
+
+    @Override
+    void writeTo(UrlRequestJob job) throws IOException {
+        writeTo(job, 0, Long.MAX_VALUE);
+    }
+
+    @Override
+    void writeTo(UrlRequestJob job, long offset, long length)
+            throws IOException {
+        var stream = stream();
+        stream.skipNBytes(offset);
+        write(stream, job, length);
+    }
+
+    @Override
+    byte[] readAllBytes() throws IOException {
+        return stream().readAllBytes();
+    }
+
+    @Override
+    InputStream newInputStream() throws IOException {
+        return connection.getURL().openStream();
+    }
+
+    private InputStream stream() throws IOException {
+        if (stream == null) {
+            stream = connection.getInputStream();
+        }
+        return stream;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ *  Copyright 2026, TeamDev. All rights reserved.
+ *
+ *  Redistribution and use in source and/or binary forms, with or without
+ *  modification, must retain the above copyright notice and the following
+ *  disclaimer.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ *  "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ *  LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ *  A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ *  OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ *  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ *  LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *  DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *  THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ *  OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+plugins {
+    // Adds the JMH benchmarks in the `src/jmh/java` source set.
+    id("me.champeau.jmh") version "0.7.2"
+}
+
+dependencies {
+    // The benchmarks are in the same package as the web crawler, so they
+    // can measure its package-private parts.
+    jmh(project(":web-crawler"))
+}
+
+jmh {
+    // Run a subset of the benchmarks with `-Pjmh.includes=<regex>`,
+    // for example, `-Pjmh.includes=UrlBenchmark`.
+    (findProperty("jmh.includes") as String?)?.let { includes.add(it) }
+
+    // The end-to-end benchmarks start Chromium, which requires a license.
+    System.getProperty("jxbrowser.license.key")?.let {
+        jvmArgsAppend.add("-Djxbrowser.license.key=$it")
+    }
+
+    resultFormat = "JSON"
+}
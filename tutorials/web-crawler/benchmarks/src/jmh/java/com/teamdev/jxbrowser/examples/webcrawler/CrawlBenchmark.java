@@ -0,0 +1,99 @@
+/*
+ *  Copyright 2026, TeamDev. All rights reserved.
+ *
+ *  Redistribution and use in source and/or binary forms, with or without
+ *  modification, must retain the above copyright notice and the following
+ *  disclaimer.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ *  "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ *  LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ *  A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ *  OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ *  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ *  LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *  DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *  THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ *  OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.teamdev.jxbrowser.examples.webcrawler;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import com.teamdev.jxbrowser.net.Scheme;
+import java.time.Duration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the crawl of the whole {@link SyntheticSite} of the given size.
+ *
+ * <p>The website is served from memory and the politeness delay is disabled,
+ * so the benchmark shows the overhead of the crawler and Chromium rather
+ * than the network. The engines are started before every crawl and are not
+ * measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class CrawlBenchmark {
+
+    private static final int LINKS_PER_PAGE = 10;
+
+    @Param({"100", "1000"})
+    private int pages;
+
+    @Param({"1", "4"})
+    private int browsers;
+
+    private WebCrawler crawler;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        var options = WebCrawlerOptions.newBuilder()
+                .browsers(browsers)
+                .ignoredQueryParameters(
+                        WebCrawlerOptions.TRACKING_QUERY_PARAMETERS)
+                .addScheme(Scheme.HTTPS,
+                        new SyntheticSite(pages, LINKS_PER_PAGE))
+                .build();
+        var pageFactory = new WebPageFactory(
+                PolitenessScheduler.newInstance(Duration.ZERO, 1));
+        crawler = WebCrawler.newInstance(SyntheticSite.URL, pageFactory,
+                options);
+    }
+
+    @Benchmark
+    public int crawl() {
+        crawler.start(webPage -> {
+        });
+        var crawled = crawler.pages().size();
+        if (crawled != pages) {
+            // The benchmark is meaningless unless the whole website is crawled.
+            throw new IllegalStateException(
+                    "Crawled " + crawled + " of " + pages + " web pages.");
+        }
+        return crawled;
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        crawler.close();
+    }
+}
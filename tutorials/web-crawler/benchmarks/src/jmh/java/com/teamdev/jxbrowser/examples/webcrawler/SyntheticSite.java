@@ -0,0 +1,203 @@
+/*
+ *  Copyright 2026, TeamDev. All rights reserved.
+ *
+ *  Redistribution and use in source and/or binary forms, with or without
+ *  modification, must retain the above copyright notice and the following
+ *  disclaimer.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ *  "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ *  LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ *  A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ *  OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ *  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ *  LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *  DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *  THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ *  OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.teamdev.jxbrowser.examples.webcrawler;
+
+import static com.teamdev.jxbrowser.net.HttpStatus.NOT_FOUND;
+import static com.teamdev.jxbrowser.net.HttpStatus.OK;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Locale.ROOT;
+
+import com.teamdev.jxbrowser.net.HttpHeader;
+import com.teamdev.jxbrowser.net.UrlRequestJob;
+import com.teamdev.jxbrowser.net.callback.InterceptUrlRequestCallback;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * A website with the given number of web pages generated on the fly.
+ *
+ * <p>Every web page links to the next one, so the whole website is reachable
+ * from the home page, which is the first web page, and to a few random web
+ * pages. The links are
+ * written the way they are on the real websites: absolute and relative, with
+ * the trailing slashes, fragments, and tracking query parameters, and mixed
+ * with the links that are not crawled such as {@code mailto:}.
+ *
+ * <p>The website is served by intercepting the HTTPS requests to
+ * {@link #HOST}, so the benchmarks do not need the network.
+ */
+final class SyntheticSite implements InterceptUrlRequestCallback {
+
+    static final String HOST = "crawler.benchmark";
+    static final String URL = "https://" + HOST;
+
+    private static final int SECTIONS = 100;
+    private static final String PAGE_PREFIX = "/page-";
+
+    private final int pages;
+    private final int linksPerPage;
+
+    /**
+     * Creates a website of the given number of {@code pages} with the given
+     * number of links on every web page.
+     */
+    SyntheticSite(int pages, int linksPerPage) {
+        this.pages = pages;
+        this.linksPerPage = linksPerPage;
+    }
+
+    /**
+     * Returns the canonical URL of the web page with the given index.
+     */
+    static String pageUrl(int index) {
+        return URL + path(index);
+    }
+
+    private static String path(int index) {
+        // The first web page is the home page, so the crawl started from
+        // the website URL reaches all the web pages.
+        return index == 0
+                ? "/"
+                : "/section-" + index % SECTIONS + PAGE_PREFIX + index;
+    }
+
+    /**
+     * Returns the URLs of all web pages in the different spellings.
+     */
+    List<String> urls() {
+        var result = new ArrayList<String>(pages);
+        for (var i = 0; i < pages; i++) {
+            result.add(spell(i, pageUrl(i)));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the {@code href} attribute values of the anchors on the web
+     * page with the given index.
+     */
+    List<String> hrefs(int index) {
+        var random = new SplittableRandom(index);
+        var result = new ArrayList<String>(linksPerPage);
+        result.add(pageUrl((index + 1) % pages));
+        for (var i = 1; i < linksPerPage; i++) {
+            var target = random.nextInt(pages);
+            switch (random.nextInt(6)) {
+                case 0:
+                    result.add(path(target));
+                    break;
+                case 1:
+                    result.add(pageUrl(target) + "#content");
+                    break;
+                case 2:
+                    result.add(pageUrl(target) + "?utm_source=benchmark");
+                    break;
+                case 3:
+                    result.add("mailto:page-" + target + "@" + HOST);
+                    break;
+                default:
+                    result.add(spell(target, pageUrl(target)));
+                    break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the {@code href} attribute values of the web page with the
+     * given index joined the way the crawler collects them.
+     */
+    String joinedHrefs(int index) {
+        return String.join("\0", hrefs(index));
+    }
+
+    /**
+     * Returns HTML of the web page with the given index.
+     */
+    String html(int index) {
+        var html = new StringBuilder("<html><body><h1>Page ")
+                .append(index)
+                .append("</h1>");
+        for (var href : hrefs(index)) {
+            html.append("<a href=\"").append(href).append("\">link</a>");
+        }
+        return html.append("</body></html>").toString();
+    }
+
+    @Override
+    public Response on(Params params) {
+        var uri = URI.create(params.urlRequest().url());
+        if (!HOST.equalsIgnoreCase(uri.getHost())) {
+            return Response.proceed();
+        }
+        var index = indexOf(uri.getPath());
+        if (index < 0 || index >= pages) {
+            var job = params.newUrlRequestJob(
+                    UrlRequestJob.Options.newBuilder(NOT_FOUND).build());
+            job.complete();
+            return Response.intercept(job);
+        }
+        var job = params.newUrlRequestJob(
+                UrlRequestJob.Options.newBuilder(OK)
+                        .addHttpHeader(HttpHeader.of("Content-Type",
+                                "text/html; charset=utf-8"))
+                        .build());
+        job.write(html(index).getBytes(UTF_8));
+        job.complete();
+        return Response.intercept(job);
+    }
+
+    private static int indexOf(String path) {
+        if (path == null || path.isEmpty() || path.equals("/")) {
+            return 0;
+        }
+        var start = path.lastIndexOf(PAGE_PREFIX);
+        if (start < 0) {
+            return -1;
+        }
+        var end = path.endsWith("/") ? path.length() - 1 : path.length();
+        try {
+            return Integer.parseInt(
+                    path.substring(start + PAGE_PREFIX.length(), end));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Returns one of the equivalent spellings of the given URL of the web
+     * page with the given index.
+     */
+    private static String spell(int index, String url) {
+        switch (index % 4) {
+            case 1:
+                return url + "/";
+            case 2:
+                return url.replace(HOST, HOST.toUpperCase(ROOT));
+            case 3:
+                return url + "?utm_campaign=benchmark&utm_content=" + index;
+            default:
+                return url;
+        }
+    }
+}
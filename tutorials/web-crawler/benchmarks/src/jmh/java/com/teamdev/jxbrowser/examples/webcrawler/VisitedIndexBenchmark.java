@@ -0,0 +1,97 @@
+/*
+ *  Copyright 2026, TeamDev. All rights reserved.
+ *
+ *  Redistribution and use in source and/or binary forms, with or without
+ *  modification, must retain the above copyright notice and the following
+ *  disclaimer.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ *  "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ *  LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ *  A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ *  OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ *  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ *  LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *  DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *  THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ *  OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.teamdev.jxbrowser.examples.webcrawler;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the index of the discovered URLs on the website of the given
+ * size.
+ *
+ * <p>The {@link #lookup()} benchmark checks a single URL that has already
+ * been discovered, which is what happens to most of the links on a website.
+ * The {@link #build()} benchmark discovers the whole website from scratch.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class VisitedIndexBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int urls;
+
+    @Param({"false", "true"})
+    private boolean compact;
+
+    private String[] normalizedUrls;
+    private VisitedIndex index;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        var spelledUrls = new SyntheticSite(urls, 1).urls();
+        normalizedUrls = new String[urls];
+        for (var i = 0; i < urls; i++) {
+            normalizedUrls[i] = Urls.normalize(spelledUrls.get(i));
+        }
+        index = newIndex();
+    }
+
+    private VisitedIndex newIndex() {
+        var result = VisitedIndex.newInstance(compact);
+        for (var url : normalizedUrls) {
+            result.add(url);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public boolean lookup() {
+        var url = normalizedUrls[next];
+        next = next + 1 == normalizedUrls.length ? 0 : next + 1;
+        return index.add(url);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(MILLISECONDS)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 10)
+    public VisitedIndex build() {
+        return newIndex();
+    }
+}
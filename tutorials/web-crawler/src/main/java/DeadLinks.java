@@ -19,6 +19,7 @@
  */
 
 import com.teamdev.jxbrowser.examples.webcrawler.WebCrawler;
+import com.teamdev.jxbrowser.examples.webcrawler.WebCrawlerOptions;
 import com.teamdev.jxbrowser.examples.webcrawler.WebPage;
 import com.teamdev.jxbrowser.examples.webcrawler.WebPageFactory;
 import com.teamdev.jxbrowser.net.NetError;
@@ -30,7 +31,8 @@ import java.util.Set;
 /**
  * This example demonstrates how to:
  * <ul>
- * <li>analyze the given web page using {@link WebCrawler};
+ * <li>analyze the given web page using {@link WebCrawler} with a pool of
+ * browsers;
  * <li>find all the links to the internal and external web pages;
  * <li>recursively go through all internal web pages;
  * <li>find anchors and get HTML for each web page;
@@ -46,13 +48,25 @@ public final class DeadLinks {
     private static final String URL = "https://teamdev.com/jxbrowser";
 
     public static void main(String[] args) {
+        // The politeness scheduler keeps the requests to every host within
+        // the limits, so the pooled browsers can check the links to
+        // different hosts at the same time. The external web pages are only
+        // checked for being accessible, and the resources that are not
+        // needed to find the links are not loaded.
+        WebCrawlerOptions options = WebCrawlerOptions.newBuilder()
+                .browsers(4)
+                .checkExternalLinksOnly()
+                .skipHeavyResources()
+                .build();
         try (WebCrawler crawler = WebCrawler
-                .newInstance(URL, new WebPageFactory())) {
+                .newInstance(URL, new WebPageFactory(), options)) {
             // Start web crawler and print the details of each discovered
             // and analyzed web page.
             crawler.start(DeadLinks::print);
             // Collect and print the web pages with problematic or dead links.
             print(problematicWebPages(crawler));
+            // Print where the crawler has spent its time.
+            System.out.println(crawler.statistics());
         }
     }
 
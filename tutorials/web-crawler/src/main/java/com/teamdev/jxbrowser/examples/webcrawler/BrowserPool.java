@@ -0,0 +1,111 @@
+/*
+ *  Copyright 2026, TeamDev. All rights reserved.
+ *
+ *  Redistribution and use in source and/or binary forms, with or without
+ *  modification, must retain the above copyright notice and the following
+ *  disclaimer.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ *  "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ *  LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ *  A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ *  OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ *  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ *  LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *  DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *  THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ *  OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.teamdev.jxbrowser.examples.webcrawler;
+
+import static com.teamdev.jxbrowser.engine.RenderingMode.OFF_SCREEN;
+import static com.teamdev.jxbrowser.net.ResourceType.FONT_RESOURCE;
+import static com.teamdev.jxbrowser.net.ResourceType.IMAGE;
+import static com.teamdev.jxbrowser.net.ResourceType.MEDIA;
+import static com.teamdev.jxbrowser.net.ResourceType.STYLESHEET;
+
+import com.google.common.collect.ImmutableList;
+import com.teamdev.jxbrowser.browser.Browser;
+import com.teamdev.jxbrowser.engine.Engine;
+import com.teamdev.jxbrowser.engine.EngineOptions;
+import com.teamdev.jxbrowser.net.ResourceType;
+import com.teamdev.jxbrowser.net.callback.BeforeUrlRequestCallback;
+import com.teamdev.jxbrowser.net.callback.BeforeUrlRequestCallback.Params;
+import com.teamdev.jxbrowser.net.callback.BeforeUrlRequestCallback.Response;
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A fixed-size pool of off-screen {@link Browser} instances spread over one or
+ * more {@link Engine}s.
+ *
+ * <p>The browsers are distributed over the engines evenly, so the pool of
+ * four browsers over two engines has two browsers in each engine.
+ *
+ * <p>If {@linkplain WebCrawlerOptions#skipHeavyResources() configured}, the
+ * engines do not load images, media, fonts, and style sheets.
+ */
+final class BrowserPool implements Closeable {
+
+    private static final Set<ResourceType> HEAVY_RESOURCES =
+            EnumSet.of(IMAGE, MEDIA, FONT_RESOURCE, STYLESHEET);
+
+    private final List<Engine> engines;
+    private final ImmutableList<Browser> browsers;
+
+    /**
+     * Creates the engines and the browsers as configured by the given
+     * {@code options}.
+     */
+    BrowserPool(WebCrawlerOptions options) {
+        engines = new ArrayList<>(options.engines());
+        for (var i = 0; i < options.engines(); i++) {
+            var engineOptions = EngineOptions.newBuilder(OFF_SCREEN)
+                    // Visit the web pages in the Chromium's incognito mode.
+                    .enableIncognito();
+            options.schemes().forEach(engineOptions::addScheme);
+            var engine = Engine.newInstance(engineOptions.build());
+            if (options.skipHeavyResources()) {
+                engine.network().set(BeforeUrlRequestCallback.class,
+                        BrowserPool::skipHeavyResources);
+            }
+            engines.add(engine);
+        }
+        var result = new ArrayList<Browser>(options.browsers());
+        for (var i = 0; i < options.browsers(); i++) {
+            result.add(engines.get(i % engines.size()).newBrowser());
+        }
+        browsers = ImmutableList.copyOf(result);
+    }
+
+    /**
+     * Cancels loading of the resources that are not needed to find the links
+     * on a web page.
+     */
+    private static Response skipHeavyResources(Params params) {
+        if (HEAVY_RESOURCES.contains(params.urlRequest().resourceType())) {
+            return Response.cancel();
+        }
+        return Response.proceed();
+    }
+
+    /**
+     * Returns an immutable list of the pooled browsers.
+     */
+    ImmutableList<Browser> browsers() {
+        return browsers;
+    }
+
+    /**
+     * Closes all the engines together with their browsers.
+     */
+    @Override
+    public void close() {
+        engines.forEach(Engine::close);
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ *  Copyright 2026, TeamDev. All rights reserved.
+ *
+ *  Redistribution and use in source and/or binary forms, with or without
+ *  modification, must retain the above copyright notice and the following
+ *  disclaimer.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ *  "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ *  LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ *  A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ *  OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ *  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ *  LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *  DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *  THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ *  OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.teamdev.jxbrowser.examples.webcrawler;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import com.google.common.io.CountingInputStream;
+import com.teamdev.jxbrowser.net.NetError;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashSet;
+
+/**
+ * An append-only log of the crawl progress persisted to disk.
+ *
+ * <p>The log consists of the header with the target URL followed by two
+ * kinds of records:
+ * <ul>
+ *     <li>a discovered URL together with its depth, written before the URL
+ *     is added to the frontier;
+ *     <li>an analyzed web page with its URL, status, content hash if its
+ *     HTML is stored, the URL of the original web page if it is a duplicate,
+ *     and links.
+ * </ul>
+ *
+ * <p>The records are buffered and flushed to disk periodically, so the
+ * checkpoint costs almost nothing during the crawl. If the process crashes,
+ * the last records might be lost or truncated. Replaying the log ignores the
+ * truncated record, and the web pages that were not recorded as analyzed are
+ * analyzed again.
+ */
+final class CheckpointLog implements Closeable {
+
+    private static final int MAGIC = 0x4A584357;
+    private static final int VERSION = 3;
+
+    private static final byte DISCOVERED = 1;
+    private static final byte VISITED = 2;
+
+    private final FileChannel channel;
+    private final DataOutputStream out;
+    private final long flushIntervalNanos;
+    private long lastFlushNanos = System.nanoTime();
+
+    private CheckpointLog(FileChannel channel, Duration flushInterval) {
+        this.channel = channel;
+        this.out = new DataOutputStream(new BufferedOutputStream(
+                Channels.newOutputStream(channel)));
+        this.flushIntervalNanos = flushInterval.toNanos();
+    }
+
+    /**
+     * Creates a new log for the crawl of the given {@code targetUrl}
+     * overwriting the given {@code file} if it exists.
+     */
+    static CheckpointLog create(Path file, String targetUrl,
+            Duration flushInterval) {
+        checkNotNull(file);
+        checkNotNull(targetUrl);
+        checkNotNull(flushInterval);
+        try {
+            var channel = FileChannel.open(file, CREATE, WRITE,
+                    TRUNCATE_EXISTING);
+            var log = new CheckpointLog(channel, flushInterval);
+            log.out.writeInt(MAGIC);
+            log.out.writeInt(VERSION);
+            log.writeString(targetUrl);
+            log.flush();
+            return log;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Replays the given log file reporting its records to the given
+     * {@code replay} and opens it for appending new records.
+     *
+     * <p>If the last record is truncated, it is dropped from the file.
+     *
+     * @throws IllegalArgumentException if the file is not a checkpoint log of
+     *                                  the crawl of the given target URL
+     */
+    static CheckpointLog resume(Path file, String targetUrl,
+            Duration flushInterval, Replay replay) {
+        checkNotNull(file);
+        checkNotNull(targetUrl);
+        checkNotNull(flushInterval);
+        checkNotNull(replay);
+        try {
+            var channel = FileChannel.open(file, READ, WRITE);
+            var validLength = read(channel, targetUrl, replay);
+            channel.truncate(validLength);
+            channel.position(validLength);
+            return new CheckpointLog(channel, flushInterval);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads all the complete records of the log.
+     *
+     * @return the length of the log up to the end of the last complete record
+     */
+    private static long read(FileChannel channel, String targetUrl,
+            Replay replay) throws IOException {
+        // The channel must stay open, so the stream is not closed.
+        var counter = new CountingInputStream(new BufferedInputStream(
+                Channels.newInputStream(channel)));
+        var in = new DataInputStream(counter);
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+            throw new IllegalArgumentException(
+                    "The file is not a web crawler checkpoint.");
+        }
+        var url = readString(in);
+        if (!url.equals(targetUrl)) {
+            throw new IllegalArgumentException(
+                    "The checkpoint belongs to the crawl of " + url + ".");
+        }
+        var validLength = counter.getCount();
+        try {
+            while (true) {
+                var type = in.readByte();
+                if (type == DISCOVERED) {
+                    replay.discovered(readString(in), in.readInt());
+                } else if (type == VISITED) {
+                    replay.visited(readWebPage(in));
+                } else {
+                    // The rest of the log is corrupted.
+                    break;
+                }
+                validLength = counter.getCount();
+            }
+        } catch (EOFException ignore) {
+            // The last record has not been written completely.
+        }
+        return validLength;
+    }
+
+    private static WebPage readWebPage(DataInputStream in)
+            throws IOException {
+        var url = readString(in);
+        var status = NetError.valueOf(readString(in));
+        var contentHash = readString(in);
+        var originalUrl = readString(in);
+        var count = in.readInt();
+        var links = new HashSet<Link>(count);
+        for (var i = 0; i < count; i++) {
+            links.add(Link.of(readString(in)));
+        }
+        return WebPage.restore(url, status, links,
+                contentHash.isEmpty() ? null : contentHash,
+                originalUrl.isEmpty() ? null : originalUrl);
+    }
+
+    /**
+     * Appends the record about the discovered URL.
+     */
+    synchronized void discovered(String url, int depth) {
+        try {
+            out.writeByte(DISCOVERED);
+            writeString(url);
+            out.writeInt(depth);
+            flushPeriodically();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Appends the record about the analyzed web page.
+     */
+    synchronized void visited(WebPage webPage) {
+        try {
+            out.writeByte(VISITED);
+            writeString(webPage.url());
+            writeString(webPage.status().name());
+            // The hash is only needed to load HTML from the store, so the
+            // web pages that are not stored are not hashed for the log.
+            writeString(webPage.isStored() ? webPage.contentHash() : "");
+            writeString(webPage.originalUrl().orElse(""));
+            out.writeInt(webPage.links().size());
+            for (var link : webPage.links()) {
+                writeString(link.url());
+            }
+            flushPeriodically();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void flushPeriodically() throws IOException {
+        if (System.nanoTime() - lastFlushNanos >= flushIntervalNanos) {
+            flush();
+        }
+    }
+
+    private void flush() throws IOException {
+        out.flush();
+        channel.force(false);
+        lastFlushNanos = System.nanoTime();
+    }
+
+    private void writeString(String value) throws IOException {
+        var bytes = value.getBytes(UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        var length = in.readInt();
+        if (length < 0) {
+            throw new EOFException("Corrupted string length: " + length);
+        }
+        var bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    /**
+     * Flushes the buffered records and closes the log.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            out.close();
+        }
+    }
+
+    /**
+     * A receiver of the records read from the log.
+     */
+    interface Replay {
+
+        /**
+         * Invoked for the record about the discovered URL.
+         */
+        void discovered(String url, int depth);
+
+        /**
+         * Invoked for the record about the analyzed web page.
+         */
+        void visited(WebPage webPage);
+    }
+}
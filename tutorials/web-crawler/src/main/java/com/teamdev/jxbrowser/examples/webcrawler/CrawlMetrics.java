@@ -0,0 +1,101 @@
+/*
+ *  Copyright 2026, TeamDev. All rights reserved.
+ *
+ *  Redistribution and use in source and/or binary forms, with or without
+ *  modification, must retain the above copyright notice and the following
+ *  disclaimer.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ *  "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ *  LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ *  A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ *  OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ *  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ *  LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *  DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *  THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ *  OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.teamdev.jxbrowser.examples.webcrawler;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread-safe recorder of the crawler performance metrics.
+ *
+ * <p>The recorder accumulates the time spent in every {@link CrawlPhase},
+ * the number of analyzed web pages, and the histogram of the time spent on
+ * a single web page. The histogram buckets grow exponentially: the bucket
+ * {@code i} counts the web pages analyzed in less than {@code 2^i}
+ * milliseconds.
+ */
+final class CrawlMetrics {
+
+    private static final int BUCKETS = 32;
+
+    private final long startNanos = System.nanoTime();
+    private final Map<CrawlPhase, LongAdder> phaseNanos =
+            new EnumMap<>(CrawlPhase.class);
+    private final Map<CrawlPhase, LongAdder> phaseCounts =
+            new EnumMap<>(CrawlPhase.class);
+    private final LongAdder pages = new LongAdder();
+    private final AtomicLongArray latencies = new AtomicLongArray(BUCKETS);
+
+    CrawlMetrics() {
+        for (var phase : CrawlPhase.values()) {
+            phaseNanos.put(phase, new LongAdder());
+            phaseCounts.put(phase, new LongAdder());
+        }
+    }
+
+    /**
+     * Records that the given {@code phase} has taken the time elapsed since
+     * the given {@code startNanos}.
+     *
+     * @param phase      the finished phase
+     * @param startNanos the {@link System#nanoTime()} when the phase started
+     */
+    void record(CrawlPhase phase, long startNanos) {
+        checkNotNull(phase);
+        phaseNanos.get(phase).add(System.nanoTime() - startNanos);
+        phaseCounts.get(phase).increment();
+    }
+
+    /**
+     * Records that a web page has been analyzed in the time elapsed since the
+     * given {@code startNanos}.
+     */
+    void recordPage(long startNanos) {
+        var millis = (System.nanoTime() - startNanos) / 1_000_000;
+        var bucket = Long.SIZE - Long.numberOfLeadingZeros(millis);
+        latencies.incrementAndGet(Math.min(bucket, BUCKETS - 1));
+        pages.increment();
+    }
+
+    /**
+     * Returns the statistics collected so far.
+     */
+    CrawlStatistics snapshot() {
+        var elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+        var times = new EnumMap<CrawlPhase, Duration>(CrawlPhase.class);
+        var counts = new EnumMap<CrawlPhase, Long>(CrawlPhase.class);
+        for (var phase : CrawlPhase.values()) {
+            times.put(phase, Duration.ofNanos(phaseNanos.get(phase).sum()));
+            counts.put(phase, phaseCounts.get(phase).sum());
+        }
+        var histogram = new long[BUCKETS];
+        for (var i = 0; i < BUCKETS; i++) {
+            histogram[i] = latencies.get(i);
+        }
+        return new CrawlStatistics(elapsed, pages.sum(), times, counts,
+                histogram);
+    }
+}
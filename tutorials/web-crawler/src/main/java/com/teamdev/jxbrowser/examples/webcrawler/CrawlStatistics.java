@@ -0,0 +1,138 @@
+/*
+ *  Copyright 2026, TeamDev. All rights reserved.
+ *
+ *  Redistribution and use in source and/or binary forms, with or without
+ *  modification, must retain the above copyright notice and the following
+ *  disclaimer.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ *  "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ *  LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ *  A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ *  OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ *  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ *  LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *  DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *  THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ *  OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.teamdev.jxbrowser.examples.webcrawler;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableMap;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * The performance statistics of a crawl.
+ *
+ * <p>The statistics show where the crawler spends its time, so the pool size,
+ * the politeness limits, and the other options can be tuned with data.
+ */
+public final class CrawlStatistics {
+
+    private final Duration elapsed;
+    private final long pages;
+    private final ImmutableMap<CrawlPhase, Duration> phaseTimes;
+    private final ImmutableMap<CrawlPhase, Long> phaseCounts;
+    private final long[] latencyHistogram;
+
+    CrawlStatistics(Duration elapsed, long pages,
+            Map<CrawlPhase, Duration> phaseTimes,
+            Map<CrawlPhase, Long> phaseCounts, long[] latencyHistogram) {
+        this.elapsed = elapsed;
+        this.pages = pages;
+        this.phaseTimes = ImmutableMap.copyOf(phaseTimes);
+        this.phaseCounts = ImmutableMap.copyOf(phaseCounts);
+        this.latencyHistogram = latencyHistogram.clone();
+    }
+
+    /**
+     * Returns the time elapsed since the crawler has started.
+     */
+    public Duration elapsed() {
+        return elapsed;
+    }
+
+    /**
+     * Returns the number of the analyzed web pages.
+     */
+    public long pages() {
+        return pages;
+    }
+
+    /**
+     * Returns the average number of web pages analyzed per second.
+     */
+    public double pagesPerSecond() {
+        var seconds = elapsed.toNanos() / 1e9;
+        return seconds > 0 ? pages / seconds : 0;
+    }
+
+    /**
+     * Returns the total time spent in the given {@code phase} by all the
+     * browsers of the pool.
+     */
+    public Duration time(CrawlPhase phase) {
+        checkNotNull(phase);
+        return phaseTimes.get(phase);
+    }
+
+    /**
+     * Returns the number of times the given {@code phase} has been passed.
+     */
+    public long count(CrawlPhase phase) {
+        checkNotNull(phase);
+        return phaseCounts.get(phase);
+    }
+
+    /**
+     * Returns the approximate time within which the given {@code percentile}
+     * of web pages has been analyzed.
+     *
+     * <p>The time is rounded up to the nearest power of two milliseconds.
+     *
+     * @param percentile the percentile from {@code 0} to {@code 100}
+     */
+    public Duration latency(double percentile) {
+        checkArgument(percentile >= 0 && percentile <= 100,
+                "The percentile must be in the range from 0 to 100.");
+        var threshold = Math.ceil(pages * percentile / 100);
+        long count = 0;
+        for (var i = 0; i < latencyHistogram.length; i++) {
+            count += latencyHistogram[i];
+            if (count >= threshold && count > 0) {
+                return Duration.ofMillis(1L << i);
+            }
+        }
+        return Duration.ZERO;
+    }
+
+    /**
+     * Returns a human-readable summary of the statistics.
+     */
+    @Override
+    public String toString() {
+        var builder = new StringBuilder()
+                .append(String.format(
+                        "%d pages in %d s (%.2f pages/s), "
+                                + "p50 %d ms, p90 %d ms, p99 %d ms",
+                        pages, elapsed.toSeconds(), pagesPerSecond(),
+                        latency(50).toMillis(), latency(90).toMillis(),
+                        latency(99).toMillis()));
+        for (var phase : CrawlPhase.values()) {
+            var count = count(phase);
+            if (count == 0) {
+                continue;
+            }
+            builder.append(String.format("%n  %-16s %8d ms total, %6d ms avg",
+                    phase, time(phase).toMillis(),
+                    time(phase).toMillis() / count));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ *  Copyright 2026, TeamDev. All rights reserved.
+ *
+ *  Redistribution and use in source and/or binary forms, with or without
+ *  modification, must retain the above copyright notice and the following
+ *  disclaimer.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ *  "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ *  LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ *  A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ *  OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ *  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ *  LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *  DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *  THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ *  OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.teamdev.jxbrowser.examples.webcrawler;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A detector of the web pages with the same or nearly the same content.
+ *
+ * <p>The web pages with the same {@linkplain WebPage#contentHash() content
+ * hash} are exact duplicates. The web pages whose {@link SimHash}
+ * fingerprints differ in at most {@value #MAX_DISTANCE} bits are near
+ * duplicates.
+ *
+ * <p>To avoid comparing a fingerprint with all the others, the fingerprints
+ * are indexed by each of their four 16-bit blocks. If two fingerprints
+ * differ in three bits or less, at least one of the blocks is the same in
+ * both, so only the fingerprints sharing a block are compared.
+ *
+ * <p>This class is thread-safe.
+ */
+final class DuplicateDetector {
+
+    private static final int MAX_DISTANCE = 3;
+    private static final int BLOCKS = 4;
+    private static final int BLOCK_BITS = Long.SIZE / BLOCKS;
+
+    private final Map<String, String> contentHashes = new HashMap<>();
+    private final Map<Long, List<Original>> blocks = new HashMap<>();
+
+    /**
+     * Checks if the given web page duplicates a web page checked earlier.
+     *
+     * <p>If it does not, the web page is remembered as an original.
+     *
+     * @return the URL of the original web page, or an empty {@code Optional}
+     * if the given web page is an original
+     */
+    synchronized Optional<String> originalOf(WebPage webPage) {
+        checkNotNull(webPage);
+        var exact = contentHashes.get(webPage.contentHash());
+        if (exact != null) {
+            return Optional.of(exact);
+        }
+        var fingerprint = SimHash.of(webPage.html());
+        if (fingerprint != 0) {
+            for (var block = 0; block < BLOCKS; block++) {
+                var candidates = blocks.get(key(fingerprint, block));
+                if (candidates == null) {
+                    continue;
+                }
+                for (var candidate : candidates) {
+                    if (SimHash.distance(fingerprint, candidate.fingerprint)
+                            <= MAX_DISTANCE) {
+                        return Optional.of(candidate.url);
+                    }
+                }
+            }
+        }
+        remember(webPage, fingerprint);
+        return Optional.empty();
+    }
+
+    private void remember(WebPage webPage, long fingerprint) {
+        contentHashes.put(webPage.contentHash(), webPage.url());
+        if (fingerprint == 0) {
+            return;
+        }
+        var original = new Original(webPage.url(), fingerprint);
+        for (var block = 0; block < BLOCKS; block++) {
+            blocks.computeIfAbsent(key(fingerprint, block),
+                    key -> new ArrayList<>(1)).add(original);
+        }
+    }
+
+    /**
+     * Returns the key of the given block of the fingerprint that includes
+     * the block number, so the same values in different blocks do not
+     * collide.
+     */
+    private static long key(long fingerprint, int block) {
+        var value = (fingerprint >>> (block * BLOCK_BITS)) & 0xFFFF;
+        return ((long) block << BLOCK_BITS) | value;
+    }
+
+    /**
+     * The fingerprint of an original web page.
+     */
+    private static final class Original {
+
+        private final String url;
+        private final long fingerprint;
+
+        private Original(String url, long fingerprint) {
+            this.url = url;
+            this.fingerprint = fingerprint;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ *  Copyright 2026, TeamDev. All rights reserved.
+ *
+ *  Redistribution and use in source and/or binary forms, with or without
+ *  modification, must retain the above copyright notice and the following
+ *  disclaimer.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ *  "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ *  LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ *  A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ *  OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ *  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ *  LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *  DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *  THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ *  OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.teamdev.jxbrowser.examples.webcrawler;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+/**
+ * A compact {@link VisitedIndex} that stores 64-bit fingerprints of the URLs
+ * in a primitive open-addressing hash table.
+ *
+ * <p>A fingerprint takes 8 bytes regardless of the URL length, and there are
+ * no objects allocated per entry, so the index of millions of URLs fits in
+ * a few dozen megabytes. The price is a tiny probability of two different URLs
+ * having the same fingerprint, in which case the second URL is treated as
+ * already visited.
+ */
+final class FingerprintSet implements VisitedIndex {
+
+    private static final HashFunction HASH = Hashing.murmur3_128();
+    private static final int INITIAL_CAPACITY = 1 << 10;
+
+    /**
+     * The fingerprint that marks an empty slot of the table.
+     */
+    private static final long EMPTY = 0L;
+
+    private long[] table = new long[INITIAL_CAPACITY];
+    private int size;
+
+    @Override
+    public synchronized boolean add(String url) {
+        checkNotNull(url);
+        var fingerprint = fingerprint(url);
+        if (!insert(table, fingerprint)) {
+            return false;
+        }
+        size++;
+        // Keep the load factor under 0.5 for short probe sequences.
+        if (size * 2 > table.length) {
+            resize();
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of the fingerprints in the set.
+     */
+    synchronized int size() {
+        return size;
+    }
+
+    private static long fingerprint(String url) {
+        var fingerprint = HASH.hashUnencodedChars(url).asLong();
+        // Zero marks an empty slot, so it cannot be used as a fingerprint.
+        return fingerprint == EMPTY ? 1L : fingerprint;
+    }
+
+    /**
+     * Inserts the fingerprint into the given table using linear probing.
+     *
+     * @return {@code false} if the table already contains the fingerprint
+     */
+    private static boolean insert(long[] table, long fingerprint) {
+        var mask = table.length - 1;
+        var index = (int) (fingerprint ^ (fingerprint >>> 32)) & mask;
+        while (table[index] != EMPTY) {
+            if (table[index] == fingerprint) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        table[index] = fingerprint;
+        return true;
+    }
+
+    private void resize() {
+        var resized = new long[table.length * 2];
+        for (var fingerprint : table) {
+            if (fingerprint != EMPTY) {
+                insert(resized, fingerprint);
+            }
+        }
+        table = resized;
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ *  Copyright 2026, TeamDev. All rights reserved.
+ *
+ *  Redistribution and use in source and/or binary forms, with or without
+ *  modification, must retain the above copyright notice and the following
+ *  disclaimer.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ *  "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ *  LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ *  A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ *  OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ *  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ *  LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *  DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *  THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ *  OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.teamdev.jxbrowser.examples.webcrawler;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.teamdev.jxbrowser.examples.webcrawler.CrawlOrder.BREADTH_FIRST;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A queue of the URLs that are discovered but not analyzed yet.
+ *
+ * <p>The frontier is shared by all the crawler workers. It tracks the number
+ * of URLs that are being analyzed at the moment, because analyzing a web page
+ * may discover new URLs. The crawl is finished only when the queue is empty
+ * and no URLs are in progress.
+ *
+ * <p>The frontier keeps at most {@code capacity} entries in memory. The rest
+ * is spilled to disk in segments, so the memory footprint stays flat
+ * regardless of the website size:
+ * <ul>
+ *     <li>in the {@linkplain CrawlOrder#BREADTH_FIRST breadth-first} order,
+ *     the newest entries are spilled, and the oldest segment is read back
+ *     when the in-memory queue is drained;
+ *     <li>in the {@linkplain CrawlOrder#DEPTH_FIRST depth-first} order, the
+ *     oldest half of the in-memory stack is spilled, and the newest segment
+ *     is read back when the stack is drained.
+ * </ul>
+ */
+final class Frontier implements Closeable {
+
+    private final CrawlOrder order;
+    private final int capacity;
+    private final Deque<Entry> memory = new ArrayDeque<>();
+    private final List<Entry> overflow = new ArrayList<>();
+    private final Deque<Path> segments = new ArrayDeque<>();
+    private final FrontierSpill spill = new FrontierSpill();
+    private int inProgress;
+
+    /**
+     * Creates a frontier that processes the entries in the given
+     * {@code order} and keeps at most {@code capacity} entries in memory.
+     */
+    Frontier(CrawlOrder order, int capacity) {
+        checkNotNull(order);
+        checkArgument(capacity > 1);
+        this.order = order;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Adds the given {@code url} discovered at the given {@code depth}.
+     */
+    synchronized void add(String url, int depth) {
+        checkNotNull(url);
+        var entry = new Entry(url, depth);
+        if (order == BREADTH_FIRST) {
+            addLast(entry);
+        } else {
+            push(entry);
+        }
+        notifyAll();
+    }
+
+    private void addLast(Entry entry) {
+        // Once the queue overflows, the new entries go after the spilled ones
+        // to keep the first-in-first-out order.
+        if (segments.isEmpty() && overflow.isEmpty()
+                && memory.size() < capacity) {
+            memory.addLast(entry);
+            return;
+        }
+        overflow.add(entry);
+        if (overflow.size() == capacity) {
+            segments.addLast(spill.write(overflow));
+            overflow.clear();
+        }
+    }
+
+    private void push(Entry entry) {
+        memory.addLast(entry);
+        if (memory.size() > capacity) {
+            var oldest = new ArrayList<Entry>(capacity / 2);
+            for (var i = 0; i < capacity / 2; i++) {
+                oldest.add(memory.pollFirst());
+            }
+            segments.addLast(spill.write(oldest));
+        }
+    }
+
+    /**
+     * Takes the next URL to analyze.
+     *
+     * <p>If the queue is empty, but some URLs are still being analyzed,
+     * waits until either a new URL is added, or the analysis is finished.
+     *
+     * <p>Every taken URL must be reported via {@link #done()} once analyzed.
+     *
+     * @return the next entry or an empty {@code Optional} if the crawl is over
+     * @throws InterruptedException if the current thread is interrupted while
+     *                              waiting
+     */
+    synchronized Optional<Entry> take() throws InterruptedException {
+        while (isEmpty() && inProgress > 0) {
+            wait();
+        }
+        if (isEmpty()) {
+            return Optional.empty();
+        }
+        if (memory.isEmpty()) {
+            refill();
+        }
+        inProgress++;
+        var entry = order == BREADTH_FIRST
+                ? memory.pollFirst()
+                : memory.pollLast();
+        return Optional.of(entry);
+    }
+
+    private void refill() {
+        if (order == BREADTH_FIRST) {
+            if (segments.isEmpty()) {
+                memory.addAll(overflow);
+                overflow.clear();
+            } else {
+                memory.addAll(spill.read(segments.pollFirst()));
+            }
+        } else {
+            memory.addAll(spill.read(segments.pollLast()));
+        }
+    }
+
+    private boolean isEmpty() {
+        return memory.isEmpty() && overflow.isEmpty() && segments.isEmpty();
+    }
+
+    /**
+     * Reports that a URL previously obtained via {@link #take()} has been
+     * analyzed.
+     */
+    synchronized void done() {
+        inProgress--;
+        notifyAll();
+    }
+
+    /**
+     * Deletes the spilled entries.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        spill.close();
+    }
+
+    /**
+     * A discovered URL together with the number of links between the target
+     * web page and it.
+     */
+    static final class Entry {
+
+        private final String url;
+        private final int depth;
+
+        Entry(String url, int depth) {
+            this.url = url;
+            this.depth = depth;
+        }
+
+        /**
+         * Returns the discovered URL.
+         */
+        String url() {
+            return url;
+        }
+
+        /**
+         * Returns the number of links between the target web page and this
+         * URL.
+         */
+        int depth() {
+            return depth;
+        }
+    }
+}
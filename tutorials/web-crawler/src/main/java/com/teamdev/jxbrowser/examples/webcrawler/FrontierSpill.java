@@ -0,0 +1,124 @@
+/*
+ *  Copyright 2026, TeamDev. All rights reserved.
+ *
+ *  Redistribution and use in source and/or binary forms, with or without
+ *  modification, must retain the above copyright notice and the following
+ *  disclaimer.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ *  "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ *  LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ *  A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ *  OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ *  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ *  LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *  DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *  THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ *  OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.teamdev.jxbrowser.examples.webcrawler;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Temporary files that keep the part of the {@link Frontier} that does not
+ * fit into memory.
+ *
+ * <p>The entries are written in segments. Every segment is a separate file
+ * that is read back and deleted as a whole.
+ */
+final class FrontierSpill implements Closeable {
+
+    private Path directory;
+    private int segments;
+
+    /**
+     * Writes the given {@code entries} into a new segment.
+     *
+     * @return the path to the segment file
+     */
+    Path write(Collection<Frontier.Entry> entries) {
+        checkNotNull(entries);
+        try {
+            var segment = directory().resolve("segment-" + segments++);
+            try (var out = new DataOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(segment)))) {
+                out.writeInt(entries.size());
+                for (var entry : entries) {
+                    var url = entry.url().getBytes(UTF_8);
+                    out.writeInt(url.length);
+                    out.write(url);
+                    out.writeInt(entry.depth());
+                }
+            }
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads all the entries of the given {@code segment} and deletes its file.
+     */
+    List<Frontier.Entry> read(Path segment) {
+        checkNotNull(segment);
+        try {
+            List<Frontier.Entry> result;
+            try (var in = new DataInputStream(new BufferedInputStream(
+                    Files.newInputStream(segment)))) {
+                var size = in.readInt();
+                result = new ArrayList<>(size);
+                for (var i = 0; i < size; i++) {
+                    var url = new byte[in.readInt()];
+                    in.readFully(url);
+                    result.add(new Frontier.Entry(new String(url, UTF_8),
+                            in.readInt()));
+                }
+            }
+            Files.delete(segment);
+            return result;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path directory() throws IOException {
+        if (directory == null) {
+            directory = Files.createTempDirectory("web-crawler-frontier");
+        }
+        return directory;
+    }
+
+    /**
+     * Deletes all the segment files.
+     */
+    @Override
+    public void close() throws IOException {
+        if (directory == null) {
+            return;
+        }
+        try (var files = Files.list(directory)) {
+            for (var file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+        directory = null;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ *  Copyright 2026, TeamDev. All rights reserved.
+ *
+ *  Redistribution and use in source and/or binary forms, with or without
+ *  modification, must retain the above copyright notice and the following
+ *  disclaimer.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ *  "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ *  LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ *  A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ *  OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ *  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ *  LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *  DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *  THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ *  OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.teamdev.jxbrowser.examples.webcrawler;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+
+import com.google.common.hash.Hashing;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A content-addressed store of the web page HTML on disk.
+ *
+ * <p>Every HTML document is compressed and saved to a file named after the
+ * SHA-256 hash of its content, so the identical documents are stored once.
+ * The files are spread over subdirectories named after the first two
+ * characters of the hash to keep the directories small.
+ *
+ * <p>This class is thread-safe.
+ */
+final class HtmlStore {
+
+    private static final String EXTENSION = ".html.gz";
+
+    private final Path directory;
+
+    /**
+     * Creates a store that keeps the files in the given {@code directory}.
+     */
+    HtmlStore(Path directory) {
+        checkNotNull(directory);
+        this.directory = directory.toAbsolutePath();
+    }
+
+    /**
+     * Returns the SHA-256 hash of the given {@code html} as a hex string.
+     */
+    static String hash(String html) {
+        checkNotNull(html);
+        return Hashing.sha256().hashString(html, UTF_8).toString();
+    }
+
+    /**
+     * Saves the given {@code html} under the given content {@code hash} unless
+     * it is already stored.
+     */
+    void save(String hash, String html) {
+        checkNotNull(hash);
+        checkNotNull(html);
+        var file = file(hash);
+        if (Files.exists(file)) {
+            return;
+        }
+        try {
+            Files.createDirectories(file.getParent());
+            // Write to a temporary file first, so that a concurrent reader
+            // never sees a partially written document.
+            var temp = Files.createTempFile(file.getParent(), hash, ".tmp");
+            try (var out = new GZIPOutputStream(Files.newOutputStream(temp))) {
+                out.write(html.getBytes(UTF_8));
+            }
+            try {
+                Files.move(temp, file, ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // Another worker has saved the same document.
+                Files.delete(temp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Loads HTML stored under the given content {@code hash}.
+     *
+     * @return HTML or an empty {@code Optional} if there is no such document
+     */
+    Optional<String> load(String hash) {
+        checkNotNull(hash);
+        try (var in = new GZIPInputStream(Files.newInputStream(file(hash)))) {
+            return Optional.of(new String(in.readAllBytes(), UTF_8));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path file(String hash) {
+        return directory.resolve(hash.substring(0, 2))
+                .resolve(hash + EXTENSION);
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ *  Copyright 2026, TeamDev. All rights reserved.
+ *
+ *  Redistribution and use in source and/or binary forms, with or without
+ *  modification, must retain the above copyright notice and the following
+ *  disclaimer.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ *  "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ *  LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ *  A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ *  OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ *  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ *  LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *  DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *  THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ *  OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.teamdev.jxbrowser.examples.webcrawler;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A scheduler that keeps the rate of requests to every host within the
+ * politeness limit.
+ *
+ * <p>Some web servers detect frequent HTTP/HTTPS requests and mark this
+ * activity as "suspicious" that might be a sign of a DDoS attack. Too frequent
+ * requests might be aborted in this case. To get rid of aborted requests, the
+ * scheduler makes sure that the requests to the same host are sent not more
+ * often than once per the configured interval, with the configured number of
+ * requests allowed in a burst.
+ *
+ * <p>Every host has its own token bucket, so the requests to different hosts
+ * do not wait for each other. When a web server aborts a request, the host is
+ * paused for an exponentially growing period of time.
+ *
+ * <p>This class is thread-safe.
+ */
+public final class PolitenessScheduler {
+
+    /**
+     * The default interval between two requests to the same host.
+     *
+     * <p>Human cannot manually navigate to a web page a dozen times per
+     * second.
+     */
+    private static final Duration DEFAULT_INTERVAL = Duration.ofMillis(500);
+
+    /**
+     * The maximum time a host can be paused after the aborted requests.
+     */
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+
+    private final long intervalNanos;
+    private final long burstToleranceNanos;
+    private final Map<String, HostBucket> buckets = new ConcurrentHashMap<>();
+
+    private PolitenessScheduler(Duration interval, int burst) {
+        this.intervalNanos = interval.toNanos();
+        this.burstToleranceNanos = intervalNanos * (burst - 1);
+    }
+
+    /**
+     * Creates a scheduler that sends one request per host every 500
+     * milliseconds.
+     */
+    public static PolitenessScheduler newInstance() {
+        return newInstance(DEFAULT_INTERVAL, 1);
+    }
+
+    /**
+     * Creates a scheduler with the given limits.
+     *
+     * @param interval the average interval between two requests to the same
+     *                 host
+     * @param burst    the number of requests to the same host that can be
+     *                 sent without waiting after the host has been idle
+     */
+    public static PolitenessScheduler newInstance(Duration interval,
+            int burst) {
+        checkNotNull(interval);
+        checkArgument(!interval.isNegative(),
+                "The interval must not be negative.");
+        checkArgument(burst > 0, "The burst must be positive.");
+        return new PolitenessScheduler(interval, burst);
+    }
+
+    /**
+     * Blocks the current thread until a request to the host of the given
+     * {@code url} is allowed.
+     *
+     * @throws InterruptedException if the current thread is interrupted while
+     *                              waiting
+     */
+    void acquire(String url) throws InterruptedException {
+        var delay = bucket(url).reserve(System.nanoTime());
+        if (delay > 0) {
+            NANOSECONDS.sleep(delay);
+        }
+    }
+
+    /**
+     * Pauses the requests to the host of the given {@code url} after the web
+     * server has aborted the given number of {@code attempts} in a row.
+     */
+    void backoff(String url, int attempts) {
+        var exponent = Math.min(attempts - 1, 16);
+        var pause = Math.min(intervalNanos << exponent, MAX_BACKOFF.toNanos());
+        bucket(url).pause(System.nanoTime() + pause);
+    }
+
+    /**
+     * Makes the requests to the host of the given {@code url} not more often
+     * than once per the given {@code delay}, for example, as requested by the
+     * {@code Crawl-delay} line of the {@code robots.txt} file.
+     *
+     * <p>The delay shorter than the configured interval is ignored.
+     */
+    void crawlDelay(String url, Duration delay) {
+        checkNotNull(delay);
+        bucket(url).slowDown(delay.toNanos());
+    }
+
+    private HostBucket bucket(String url) {
+        return buckets.computeIfAbsent(host(url), host -> new HostBucket());
+    }
+
+    private static String host(String url) {
+        try {
+            var host = URI.create(url).getHost();
+            return host == null ? url : host;
+        } catch (IllegalArgumentException e) {
+            return url;
+        }
+    }
+
+    /**
+     * A token bucket of a single host.
+     *
+     * <p>Instead of counting the tokens, the bucket tracks the theoretical
+     * time of the next request. The request is allowed as long as it is not
+     * ahead of that time by more than the burst tolerance. This is equivalent
+     * to a token bucket refilled by one token per interval.
+     */
+    private final class HostBucket {
+
+        private long nextRequestNanos = System.nanoTime();
+        private long pausedUntilNanos = nextRequestNanos;
+        private long hostIntervalNanos = intervalNanos;
+        private long hostBurstToleranceNanos = burstToleranceNanos;
+
+        /**
+         * Reserves a slot for a request and returns the time to wait for it.
+         */
+        synchronized long reserve(long now) {
+            var allowedAt = Math.max(now, pausedUntilNanos);
+            allowedAt = Math.max(allowedAt,
+                    nextRequestNanos - hostBurstToleranceNanos);
+            nextRequestNanos = Math.max(nextRequestNanos, allowedAt)
+                    + hostIntervalNanos;
+            return allowedAt - now;
+        }
+
+        synchronized void pause(long untilNanos) {
+            pausedUntilNanos = Math.max(pausedUntilNanos, untilNanos);
+        }
+
+        /**
+         * Makes the interval of this host at least the given one and disables
+         * the bursts.
+         */
+        synchronized void slowDown(long minIntervalNanos) {
+            if (minIntervalNanos > hostIntervalNanos) {
+                hostIntervalNanos = minIntervalNanos;
+                hostBurstToleranceNanos = 0;
+            }
+        }
+    }
+}
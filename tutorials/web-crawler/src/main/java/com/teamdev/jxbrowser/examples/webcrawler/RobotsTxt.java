@@ -0,0 +1,255 @@
+/*
+ *  Copyright 2026, TeamDev. All rights reserved.
+ *
+ *  Redistribution and use in source and/or binary forms, with or without
+ *  modification, must retain the above copyright notice and the following
+ *  disclaimer.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ *  "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ *  LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ *  A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ *  OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ *  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ *  LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *  DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *  THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ *  OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.teamdev.jxbrowser.examples.webcrawler;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.Locale.ROOT;
+
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The rules of the {@code robots.txt} file of a website.
+ *
+ * <p>The crawler follows the rules of the {@code *} user agent group as
+ * described in <a href="https://www.rfc-editor.org/rfc/rfc9309">RFC 9309</a>:
+ * the longest matching {@code Allow} or {@code Disallow} rule wins, and
+ * {@code Allow} wins the tie. The rules may use the {@code *} wildcard and
+ * the {@code $} end anchor.
+ *
+ * <p>The non-standard {@code Crawl-delay} and the {@code Sitemap} lines are
+ * also supported.
+ */
+final class RobotsTxt {
+
+    private static final String ANY_AGENT = "*";
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    private static final Splitter LINE_SPLITTER = Splitter.on('\n');
+
+    private final List<Rule> rules;
+    private final Duration crawlDelay;
+    private final ImmutableList<String> sitemaps;
+
+    private RobotsTxt(List<Rule> rules, Duration crawlDelay,
+            List<String> sitemaps) {
+        this.rules = rules;
+        this.crawlDelay = crawlDelay;
+        this.sitemaps = ImmutableList.copyOf(sitemaps);
+    }
+
+    /**
+     * Loads {@code robots.txt} of the website the given {@code url} belongs
+     * to.
+     *
+     * <p>If the file does not exist, everything is allowed. If the server
+     * fails or cannot be reached, everything is disallowed.
+     *
+     * @throws InterruptedException if the current thread is interrupted while
+     *                              waiting for the response
+     */
+    static RobotsTxt load(HttpClient client, String url)
+            throws InterruptedException {
+        checkNotNull(client);
+        checkNotNull(url);
+        var robotsUrl = URI.create(url).resolve("/robots.txt");
+        var request = HttpRequest.newBuilder(robotsUrl)
+                .timeout(TIMEOUT)
+                .build();
+        try {
+            var response = client.send(request, BodyHandlers.ofString());
+            var status = response.statusCode();
+            if (status >= 200 && status < 300) {
+                return parse(response.body());
+            }
+            if (status >= 400 && status < 500) {
+                return parse("");
+            }
+        } catch (IOException ignore) {
+            // The server is unreachable, so nothing can be crawled safely.
+        }
+        return parse("User-agent: *\nDisallow: /");
+    }
+
+    /**
+     * Parses the given content of a {@code robots.txt} file.
+     */
+    static RobotsTxt parse(String content) {
+        checkNotNull(content);
+        var rules = new ArrayList<Rule>();
+        var sitemaps = new ArrayList<String>();
+        Duration crawlDelay = null;
+        // Whether the current group applies to every user agent.
+        var inAnyGroup = false;
+        // Whether the previous line is a "User-agent" line, in which case the
+        // next "User-agent" line belongs to the same group.
+        var inAgents = false;
+        for (var line : LINE_SPLITTER.split(content)) {
+            var comment = line.indexOf('#');
+            if (comment >= 0) {
+                line = line.substring(0, comment);
+            }
+            var colon = line.indexOf(':');
+            if (colon < 0) {
+                continue;
+            }
+            var key = line.substring(0, colon).trim().toLowerCase(ROOT);
+            var value = line.substring(colon + 1).trim();
+            switch (key) {
+                case "user-agent":
+                    inAnyGroup = (inAgents && inAnyGroup)
+                            || value.equals(ANY_AGENT);
+                    inAgents = true;
+                    continue;
+                case "allow":
+                case "disallow":
+                    if (inAnyGroup && !value.isEmpty()) {
+                        rules.add(new Rule(value, key.equals("allow")));
+                    }
+                    break;
+                case "crawl-delay":
+                    if (inAnyGroup) {
+                        crawlDelay = parseDelay(value).orElse(crawlDelay);
+                    }
+                    break;
+                case "sitemap":
+                    sitemaps.add(value);
+                    break;
+                default:
+                    break;
+            }
+            inAgents = false;
+        }
+        return new RobotsTxt(rules, crawlDelay, sitemaps);
+    }
+
+    private static Optional<Duration> parseDelay(String value) {
+        try {
+            var seconds = Double.parseDouble(value);
+            if (seconds >= 0) {
+                return Optional.of(Duration.ofMillis((long) (seconds * 1000)));
+            }
+        } catch (NumberFormatException ignore) {
+            // An invalid delay is ignored.
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Checks if the given {@code url} is allowed to be crawled.
+     */
+    boolean allows(String url) {
+        checkNotNull(url);
+        var path = pathOf(url);
+        Rule match = null;
+        for (var rule : rules) {
+            if (rule.matches(path) && (match == null
+                    || rule.length() > match.length()
+                    || (rule.length() == match.length() && rule.allow))) {
+                match = rule;
+            }
+        }
+        return match == null || match.allow;
+    }
+
+    /**
+     * Returns the minimum delay between two requests to the website, if
+     * specified.
+     */
+    Optional<Duration> crawlDelay() {
+        return Optional.ofNullable(crawlDelay);
+    }
+
+    /**
+     * Returns the URLs of the sitemaps listed in the file.
+     */
+    ImmutableList<String> sitemaps() {
+        return sitemaps;
+    }
+
+    /**
+     * Returns the path and the query of the given {@code url}.
+     */
+    private static String pathOf(String url) {
+        var schemeEnd = url.indexOf("://");
+        var pathStart = schemeEnd < 0 ? -1 : url.indexOf('/', schemeEnd + 3);
+        if (pathStart < 0) {
+            return "/";
+        }
+        var fragment = url.indexOf('#', pathStart);
+        return fragment < 0
+                ? url.substring(pathStart)
+                : url.substring(pathStart, fragment);
+    }
+
+    /**
+     * An {@code Allow} or {@code Disallow} rule.
+     */
+    private static final class Rule {
+
+        private final String pattern;
+        private final boolean allow;
+
+        private Rule(String pattern, boolean allow) {
+            this.pattern = pattern;
+            this.allow = allow;
+        }
+
+        private int length() {
+            return pattern.length();
+        }
+
+        private boolean matches(String path) {
+            return matches(path, 0, 0);
+        }
+
+        private boolean matches(String path, int pathIndex, int patternIndex) {
+            for (var i = patternIndex; i < pattern.length(); i++) {
+                var c = pattern.charAt(i);
+                if (c == '*') {
+                    for (var j = pathIndex; j <= path.length(); j++) {
+                        if (matches(path, j, i + 1)) {
+                            return true;
+                        }
+                    }
+                    return false;
+                }
+                if (c == '$' && i == pattern.length() - 1) {
+                    return pathIndex == path.length();
+                }
+                if (pathIndex >= path.length()
+                        || path.charAt(pathIndex) != c) {
+                    return false;
+                }
+                pathIndex++;
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ *  Copyright 2026, TeamDev. All rights reserved.
+ *
+ *  Redistribution and use in source and/or binary forms, with or without
+ *  modification, must retain the above copyright notice and the following
+ *  disclaimer.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ *  "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ *  LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ *  A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ *  OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ *  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ *  LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *  DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *  THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ *  OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.teamdev.jxbrowser.examples.webcrawler;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A utility that calculates the SimHash fingerprint of a web page.
+ *
+ * <p>SimHash maps similar documents to the fingerprints that differ only in
+ * a few bits, so the near-duplicate web pages can be found by comparing the
+ * fingerprints bit by bit.
+ *
+ * <p>The fingerprint is calculated over the text of the web page: the tags
+ * and the content of the {@code SCRIPT} and {@code STYLE} elements are
+ * skipped, and the remaining words are combined into the overlapping
+ * shingles of three words.
+ */
+final class SimHash {
+
+    private static final int SHINGLE_SIZE = 3;
+
+    /**
+     * The parameters of the 64-bit FNV-1a hash used to hash the words.
+     */
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private SimHash() {
+    }
+
+    /**
+     * Returns the SimHash fingerprint of the given {@code html}, or {@code 0}
+     * if it has no text.
+     */
+    static long of(String html) {
+        checkNotNull(html);
+        var weights = new int[Long.SIZE];
+        var words = new long[SHINGLE_SIZE];
+        var wordCount = 0;
+        var length = html.length();
+        var i = 0;
+        while (i < length) {
+            var c = html.charAt(i);
+            if (c == '<') {
+                i = skipTag(html, i);
+                continue;
+            }
+            if (!Character.isLetterOrDigit(c)) {
+                i++;
+                continue;
+            }
+            var word = FNV_OFFSET;
+            while (i < length && Character.isLetterOrDigit(html.charAt(i))) {
+                word = (word ^ Character.toLowerCase(html.charAt(i)))
+                        * FNV_PRIME;
+                i++;
+            }
+            words[wordCount % SHINGLE_SIZE] = word;
+            wordCount++;
+            if (wordCount >= SHINGLE_SIZE) {
+                add(weights, shingle(words, wordCount));
+            }
+        }
+        if (wordCount > 0 && wordCount < SHINGLE_SIZE) {
+            add(weights, shingle(words, wordCount));
+        }
+        var fingerprint = 0L;
+        for (var bit = 0; bit < Long.SIZE; bit++) {
+            if (weights[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Returns the number of bits that differ in the given fingerprints.
+     */
+    static int distance(long first, long second) {
+        return Long.bitCount(first ^ second);
+    }
+
+    /**
+     * Returns the index of the character after the tag that starts at the
+     * given {@code index}, including the content of the {@code SCRIPT} and
+     * {@code STYLE} elements.
+     */
+    private static int skipTag(String html, int index) {
+        var end = html.indexOf('>', index);
+        if (end < 0) {
+            return html.length();
+        }
+        String closing = null;
+        if (html.regionMatches(true, index, "<script", 0, 7)) {
+            closing = "</script";
+        } else if (html.regionMatches(true, index, "<style", 0, 6)) {
+            closing = "</style";
+        }
+        if (closing == null) {
+            return end + 1;
+        }
+        for (var i = end + 1; i < html.length(); i++) {
+            if (html.charAt(i) == '<' && html.regionMatches(
+                    true, i, closing, 0, closing.length())) {
+                return i;
+            }
+        }
+        return html.length();
+    }
+
+    /**
+     * Combines the last words into a shingle hash.
+     */
+    private static long shingle(long[] words, int wordCount) {
+        var hash = 0L;
+        var count = Math.min(wordCount, SHINGLE_SIZE);
+        for (var i = count; i > 0; i--) {
+            hash = hash * 31 + words[(wordCount - i) % SHINGLE_SIZE];
+        }
+        return mix(hash);
+    }
+
+    /**
+     * Spreads the bits of the given hash using the SplitMix64 finalizer.
+     */
+    private static long mix(long hash) {
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        return hash ^ (hash >>> 31);
+    }
+
+    private static void add(int[] weights, long shingle) {
+        for (var bit = 0; bit < Long.SIZE; bit++) {
+            weights[bit] += ((shingle >>> bit) & 1) == 1 ? 1 : -1;
+        }
+    }
+}
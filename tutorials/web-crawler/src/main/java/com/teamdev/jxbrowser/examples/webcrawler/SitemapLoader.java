@@ -0,0 +1,227 @@
+/*
+ *  Copyright 2026, TeamDev. All rights reserved.
+ *
+ *  Redistribution and use in source and/or binary forms, with or without
+ *  modification, must retain the above copyright notice and the following
+ *  disclaimer.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ *  "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ *  LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ *  A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ *  OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ *  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ *  LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *  DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *  THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ *  OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.teamdev.jxbrowser.examples.webcrawler;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.zip.GZIPInputStream;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+
+/**
+ * A loader of the URLs listed in the {@code sitemap.xml} files of a website.
+ *
+ * <p>The sitemaps are downloaded with a plain HTTP client, because there is
+ * nothing to render in them. The sitemap indexes are followed, and the nested
+ * sitemaps are downloaded in parallel. The gzipped sitemaps are recognized by
+ * their content.
+ *
+ * <p>The URLs are passed to the consumer as soon as their sitemap is parsed,
+ * so they are never collected in memory. Once the consumer needs no more
+ * URLs, the rest of the sitemaps are neither parsed nor downloaded.
+ */
+final class SitemapLoader {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    /**
+     * The maximum number of sitemaps loaded for a single website.
+     *
+     * <p>The sitemap index cannot list more than 50 000 sitemaps, but a website
+     * rarely has more than a few.
+     */
+    private static final int MAX_SITEMAPS = 1000;
+
+    /**
+     * The maximum nesting level of the sitemap indexes.
+     *
+     * <p>According to the protocol, sitemap indexes cannot be nested, but some
+     * websites do this anyway.
+     */
+    private static final int MAX_LEVEL = 2;
+
+    private static final int GZIP_MAGIC_FIRST = 0x1f;
+    private static final int GZIP_MAGIC_SECOND = 0x8b;
+
+    private static final XMLInputFactory XML_FACTORY = newXmlFactory();
+
+    private final HttpClient client;
+    private final Predicate<String> urlConsumer;
+    private final AtomicInteger sitemaps = new AtomicInteger();
+    private final CompletableFuture<Void> stopped = new CompletableFuture<>();
+
+    /**
+     * Creates a loader that passes the loaded URLs to the given consumer.
+     *
+     * @param client      the client to download the sitemaps with
+     * @param urlConsumer the consumer of the URLs that returns {@code false}
+     *                    once it needs no more of them; it is invoked from
+     *                    the threads of the client concurrently
+     */
+    SitemapLoader(HttpClient client, Predicate<String> urlConsumer) {
+        checkNotNull(client);
+        checkNotNull(urlConsumer);
+        this.client = client;
+        this.urlConsumer = urlConsumer;
+    }
+
+    /**
+     * Loads the URLs listed in the given sitemaps and in the sitemaps they
+     * refer to.
+     *
+     * <p>The method returns once all the sitemaps are loaded, or the consumer
+     * needs no more URLs. The sitemaps that cannot be loaded or parsed are
+     * skipped.
+     *
+     * @throws InterruptedException if the current thread is interrupted while
+     *                              waiting for the sitemaps
+     */
+    void load(List<String> sitemapUrls) throws InterruptedException {
+        checkNotNull(sitemapUrls);
+        try {
+            // The sitemaps being downloaded when the loading stops are
+            // dropped once downloaded.
+            CompletableFuture.anyOf(loadAll(sitemapUrls, 0), stopped).get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private CompletableFuture<Void> loadAll(List<String> sitemapUrls,
+            int level) {
+        var futures = new ArrayList<CompletableFuture<Void>>();
+        for (var url : sitemapUrls) {
+            if (stopped.isDone() || sitemaps.incrementAndGet() > MAX_SITEMAPS) {
+                break;
+            }
+            futures.add(load(url, level));
+        }
+        return CompletableFuture.allOf(
+                futures.toArray(new CompletableFuture<?>[0]));
+    }
+
+    private CompletableFuture<Void> load(String url, int level) {
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder(URI.create(url))
+                    .timeout(TIMEOUT)
+                    .build();
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return client.sendAsync(request, BodyHandlers.ofByteArray())
+                .thenCompose(response -> {
+                    var nested = parse(response);
+                    return level < MAX_LEVEL
+                            ? loadAll(nested, level + 1)
+                            : CompletableFuture.<Void>completedFuture(null);
+                })
+                .exceptionally(error -> null);
+    }
+
+    /**
+     * Passes the URLs listed in the sitemap to the consumer and returns the
+     * sitemaps listed in the sitemap index.
+     */
+    private List<String> parse(HttpResponse<byte[]> response) {
+        var status = response.statusCode();
+        if (stopped.isDone() || status < 200 || status >= 300) {
+            return List.of();
+        }
+        var nested = new ArrayList<String>();
+        try (var content = decode(response.body())) {
+            var reader = XML_FACTORY.createXMLStreamReader(content);
+            try {
+                // The "loc" elements of the "url" elements are web pages, and
+                // the ones of the "sitemap" elements are nested sitemaps.
+                var parent = "";
+                while (reader.hasNext() && !stopped.isDone()) {
+                    var event = reader.next();
+                    if (event == START_ELEMENT) {
+                        var name = reader.getLocalName();
+                        if (name.equals("loc")) {
+                            var loc = reader.getElementText().trim();
+                            if (parent.equals("sitemap")) {
+                                nested.add(loc);
+                            } else if (parent.equals("url")
+                                    && !urlConsumer.test(loc)) {
+                                stopped.complete(null);
+                            }
+                        } else if (name.equals("url")
+                                || name.equals("sitemap")) {
+                            parent = name;
+                        }
+                    } else if (event == END_ELEMENT
+                            && reader.getLocalName().equals(parent)) {
+                        parent = "";
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (XMLStreamException e) {
+            throw new CompletionException(e);
+        }
+        return nested;
+    }
+
+    private static InputStream decode(byte[] body) throws IOException {
+        var content = new ByteArrayInputStream(body);
+        var gzipped = body.length > 1
+                && (body[0] & 0xff) == GZIP_MAGIC_FIRST
+                && (body[1] & 0xff) == GZIP_MAGIC_SECOND;
+        return gzipped ? new GZIPInputStream(content) : content;
+    }
+
+    /**
+     * Creates a factory of the XML readers that do not resolve the external
+     * entities, because a sitemap comes from an untrusted source.
+     */
+    private static XMLInputFactory newXmlFactory() {
+        var factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(
+                XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        return factory;
+    }
+}
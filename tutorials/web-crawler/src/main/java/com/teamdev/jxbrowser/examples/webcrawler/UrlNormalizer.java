@@ -0,0 +1,396 @@
+/*
+ *  Copyright 2026, TeamDev. All rights reserved.
+ *
+ *  Redistribution and use in source and/or binary forms, with or without
+ *  modification, must retain the above copyright notice and the following
+ *  disclaimer.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ *  "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ *  LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ *  A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ *  OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ *  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ *  LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *  DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *  THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ *  OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.teamdev.jxbrowser.examples.webcrawler;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.Optional;
+
+/**
+ * A normalizer of the URLs that resolves the links found on a web page in
+ * a single pass.
+ *
+ * <p>The normalized URL has:
+ * <ul>
+ *     <li>the lower-case scheme and host;
+ *     <li>no default port of HTTP and HTTPS;
+ *     <li>no {@code .} and {@code ..} path segments;
+ *     <li>no fragment;
+ *     <li>no trailing slash in the path.
+ * </ul>
+ *
+ * <p>Only the hierarchical {@code scheme://} URLs are supported. The links
+ * such as {@code mailto:}, {@code tel:}, and {@code javascript:} are skipped.
+ *
+ * <p>The links on a web page are resolved one after another against the same
+ * web page URL, so the parsed base URL is cached until the next web page. The
+ * result is built in a buffer reused between the calls, so the only object
+ * created per link is the resulting string.
+ *
+ * <p>This class is not thread-safe. Use {@link #forCurrentThread()} to get
+ * an instance confined to the current thread.
+ */
+final class UrlNormalizer {
+
+    private static final ThreadLocal<UrlNormalizer> INSTANCES =
+            ThreadLocal.withInitial(UrlNormalizer::new);
+
+    private static final String HTTP = "http";
+    private static final String HTTPS = "https";
+    private static final String HTTP_PORT = "80";
+    private static final String HTTPS_PORT = "443";
+
+    private final StringBuilder buffer = new StringBuilder(256);
+
+    /**
+     * The last base URL as is.
+     */
+    private String baseUrl;
+
+    /**
+     * The normalized {@code scheme://authority} part of the base URL, or
+     * {@code null} if the base URL is not supported.
+     */
+    private String baseOrigin;
+
+    /**
+     * The normalized path of the base URL with the trailing slash kept.
+     */
+    private String basePath;
+
+    /**
+     * The length of the scheme in {@link #baseOrigin}.
+     */
+    private int baseSchemeLength;
+
+    /**
+     * The position in the buffer where the path of the last appended URL
+     * starts.
+     */
+    private int pathStart;
+
+    /**
+     * Returns the normalizer confined to the current thread.
+     */
+    static UrlNormalizer forCurrentThread() {
+        return INSTANCES.get();
+    }
+
+    /**
+     * Normalizes the given absolute {@code url}.
+     *
+     * @return the normalized URL, or an empty {@code Optional} if the given
+     * string is not a hierarchical absolute URL
+     */
+    Optional<String> normalize(String url) {
+        checkNotNull(url);
+        buffer.setLength(0);
+        var start = trimStart(url);
+        var end = trimEnd(url, start);
+        return appendAbsolute(url, start, end, true)
+                ? Optional.of(buffer.toString())
+                : Optional.empty();
+    }
+
+    /**
+     * Resolves the given {@code href} attribute value against the URL of the
+     * web page it is found on, and normalizes the result.
+     *
+     * @param href    the {@code href} attribute value
+     * @param pageUrl the URL of the web page to resolve relative links
+     *
+     * @return the normalized absolute URL, or an empty {@code Optional} if
+     * the link is empty, points to the same web page, or is not
+     * a hierarchical URL
+     */
+    Optional<String> resolve(String href, String pageUrl) {
+        checkNotNull(href);
+        checkNotNull(pageUrl);
+        var start = trimStart(href);
+        var end = trimEnd(href, start);
+        if (start == end || href.charAt(start) == '#') {
+            return Optional.empty();
+        }
+        boolean resolved;
+        if (schemeEnd(href, start, end) >= 0) {
+            buffer.setLength(0);
+            resolved = appendAbsolute(href, start, end, true);
+        } else {
+            resolved = parseBase(pageUrl) && appendRelative(href, start, end);
+        }
+        return resolved ? Optional.of(buffer.toString()) : Optional.empty();
+    }
+
+    /**
+     * Parses the given base URL unless it is the same as the last one.
+     *
+     * @return {@code true} if the base URL is supported
+     */
+    private boolean parseBase(String url) {
+        if (!url.equals(baseUrl)) {
+            baseUrl = url;
+            buffer.setLength(0);
+            var start = trimStart(url);
+            var end = trimEnd(url, start);
+            end = indexOf(url, '?', start, indexOf(url, '#', start, end));
+            if (appendAbsolute(url, start, end, false)) {
+                baseOrigin = buffer.substring(0, pathStart);
+                basePath = buffer.substring(pathStart);
+                baseSchemeLength = baseOrigin.indexOf(':');
+            } else {
+                baseOrigin = null;
+                basePath = null;
+            }
+        }
+        return baseOrigin != null;
+    }
+
+    /**
+     * Appends the normalized relative {@code href} resolved against the base
+     * URL to the buffer.
+     */
+    private boolean appendRelative(String href, int start, int end) {
+        buffer.setLength(0);
+        if (href.startsWith("//", start)) {
+            // A network-path reference takes only the scheme of the base URL.
+            buffer.append(baseOrigin, 0, baseSchemeLength).append("://");
+            return appendAuthorityAndPath(href, start + 2, end,
+                    defaultPort(baseOrigin, 0, baseSchemeLength), true);
+        }
+        buffer.append(baseOrigin);
+        pathStart = buffer.length();
+        var first = href.charAt(start);
+        if (first == '/') {
+            var pathEnd = appendPath(href, start, end, true);
+            appendQuery(href, pathEnd, end);
+        } else if (first == '?') {
+            appendPath(basePath, 0, basePath.length(), true);
+            appendQuery(href, start, end);
+        } else {
+            // Start from the directory of the base path.
+            buffer.append(basePath, 0, Math.max(basePath.lastIndexOf('/'), 0));
+            var pathEnd = appendPath(href, start, end, true);
+            appendQuery(href, pathEnd, end);
+        }
+        return true;
+    }
+
+    /**
+     * Appends the normalized absolute {@code url} to the buffer.
+     */
+    private boolean appendAbsolute(String url, int start, int end,
+            boolean trimTrailingSlash) {
+        var colon = schemeEnd(url, start, end);
+        if (colon < 0 || colon + 3 > end || !url.startsWith("//", colon + 1)) {
+            return false;
+        }
+        appendLowerCase(url, start, colon);
+        buffer.append("://");
+        return appendAuthorityAndPath(url, colon + 3, end,
+                defaultPort(url, start, colon), trimTrailingSlash);
+    }
+
+    /**
+     * Appends the authority, the path, and the query that start at the given
+     * position of the {@code url} to the buffer.
+     */
+    private boolean appendAuthorityAndPath(String url, int start, int end,
+            String defaultPort, boolean trimTrailingSlash) {
+        var authorityEnd = start;
+        while (authorityEnd < end && !isDelimiter(url.charAt(authorityEnd))) {
+            authorityEnd++;
+        }
+        var at = url.lastIndexOf('@', authorityEnd - 1);
+        var hostStart = at >= start ? at + 1 : start;
+        var hostEnd = authorityEnd;
+        // Skip the colons of an IPv6 address.
+        var portSearchStart = hostStart;
+        if (hostStart < authorityEnd && url.charAt(hostStart) == '[') {
+            portSearchStart = indexOf(url, ']', hostStart, authorityEnd);
+        }
+        var portColon = indexOf(url, ':', portSearchStart, authorityEnd);
+        if (portColon < authorityEnd) {
+            hostEnd = portColon;
+        }
+        if (hostStart == hostEnd) {
+            return false;
+        }
+        if (hostStart > start) {
+            buffer.append(url, start, hostStart);
+        }
+        appendLowerCase(url, hostStart, hostEnd);
+        var portStart = portColon + 1;
+        var portLength = authorityEnd - portStart;
+        var isDefaultPort = portLength == defaultPort.length()
+                && url.regionMatches(portStart, defaultPort, 0, portLength);
+        if (portLength > 0 && !isDefaultPort) {
+            buffer.append(url, portColon, authorityEnd);
+        }
+        pathStart = buffer.length();
+        var pathEnd = appendPath(url, authorityEnd, end, trimTrailingSlash);
+        appendQuery(url, pathEnd, end);
+        return true;
+    }
+
+    /**
+     * Appends the path that starts at the given position of the {@code url}
+     * to the buffer, removing the dot segments.
+     *
+     * @return the position where the path ends
+     */
+    private int appendPath(String url, int start, int end,
+            boolean trimTrailingSlash) {
+        var pathEnd = start;
+        while (pathEnd < end && url.charAt(pathEnd) != '?'
+                && url.charAt(pathEnd) != '#') {
+            pathEnd++;
+        }
+        var segmentStart = start;
+        if (segmentStart < pathEnd && url.charAt(segmentStart) == '/') {
+            segmentStart++;
+        }
+        while (true) {
+            var segmentEnd = indexOf(url, '/', segmentStart, pathEnd);
+            appendSegment(url, segmentStart, segmentEnd,
+                    segmentEnd == pathEnd);
+            if (segmentEnd == pathEnd) {
+                break;
+            }
+            segmentStart = segmentEnd + 1;
+        }
+        var last = buffer.length() - 1;
+        if (trimTrailingSlash && last >= pathStart
+                && buffer.charAt(last) == '/') {
+            buffer.setLength(last);
+        }
+        return pathEnd;
+    }
+
+    private void appendSegment(String url, int start, int end, boolean last) {
+        var length = end - start;
+        if (length == 1 && url.charAt(start) == '.') {
+            if (last) {
+                buffer.append('/');
+            }
+        } else if (length == 2 && url.charAt(start) == '.'
+                && url.charAt(start + 1) == '.') {
+            var parent = buffer.lastIndexOf("/");
+            buffer.setLength(Math.max(parent, pathStart));
+            if (last) {
+                buffer.append('/');
+            }
+        } else {
+            buffer.append('/').append(url, start, end);
+        }
+    }
+
+    /**
+     * Appends the query that starts at the given position of the {@code url}
+     * to the buffer, dropping the fragment.
+     */
+    private void appendQuery(String url, int start, int end) {
+        if (start < end && url.charAt(start) == '?') {
+            buffer.append(url, start, indexOf(url, '#', start, end));
+        }
+    }
+
+    private void appendLowerCase(String value, int start, int end) {
+        for (var i = start; i < end; i++) {
+            var c = value.charAt(i);
+            buffer.append(c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c);
+        }
+    }
+
+    /**
+     * Returns the position of the colon that ends the scheme of the given
+     * {@code url}, or {@code -1} if the URL has no scheme.
+     */
+    private static int schemeEnd(String url, int start, int end) {
+        if (start == end || !isAsciiLetter(url.charAt(start))) {
+            return -1;
+        }
+        for (var i = start + 1; i < end; i++) {
+            var c = url.charAt(i);
+            if (c == ':') {
+                return i;
+            }
+            if (!isAsciiLetter(c) && !(c >= '0' && c <= '9')
+                    && c != '+' && c != '-' && c != '.') {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the default port of the given scheme, or an empty string if
+     * the default port of the scheme is not removed.
+     */
+    private static String defaultPort(String url, int start, int end) {
+        var length = end - start;
+        if (length == HTTP.length()
+                && url.regionMatches(true, start, HTTP, 0, length)) {
+            return HTTP_PORT;
+        }
+        if (length == HTTPS.length()
+                && url.regionMatches(true, start, HTTPS, 0, length)) {
+            return HTTPS_PORT;
+        }
+        return "";
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isDelimiter(char c) {
+        return c == '/' || c == '?' || c == '#';
+    }
+
+    /**
+     * Returns the position of the given character in the given range, or
+     * the end of the range if there is no such character.
+     */
+    private static int indexOf(String value, char c, int start, int end) {
+        for (var i = start; i < end; i++) {
+            if (value.charAt(i) == c) {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    private static int trimStart(String value) {
+        var start = 0;
+        while (start < value.length() && value.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    private static int trimEnd(String value, int start) {
+        var end = value.length();
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ *  Copyright 2026, TeamDev. All rights reserved.
+ *
+ *  Redistribution and use in source and/or binary forms, with or without
+ *  modification, must retain the above copyright notice and the following
+ *  disclaimer.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ *  "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ *  LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ *  A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ *  OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ *  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ *  LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *  DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *  THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ *  OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.teamdev.jxbrowser.examples.webcrawler;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.Locale.ROOT;
+
+import com.google.common.base.Splitter;
+import java.util.Set;
+
+/**
+ * A utility for working with URLs.
+ */
+final class Urls {
+
+    private static final String JSESSIONID = "jsessionid";
+    private static final Splitter QUERY_SPLITTER = Splitter.on('&');
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private Urls() {
+    }
+
+    /**
+     * Returns the normalized form of the given {@code url} used as a key in
+     * the crawler indices.
+     *
+     * <p>The URL is normalized by {@link UrlNormalizer}, the same way as the
+     * links found on the web pages. If the URL cannot be parsed, it is
+     * returned as is.
+     */
+    static String normalize(String url) {
+        checkNotNull(url);
+        return UrlNormalizer.forCurrentThread().normalize(url).orElse(url);
+    }
+
+    /**
+     * Removes the query parameters with the given {@code names} from the given
+     * {@code url}.
+     *
+     * <p>The names are compared ignoring the letter case. A name that ends
+     * with {@code *} matches all the parameters that start with it, so
+     * {@code utm_*} removes {@code utm_source}, {@code utm_medium}, etc.
+     * The {@code ;jsessionid=} path parameter is removed if {@code jsessionid}
+     * is in the given names.
+     *
+     * @param url   the URL to clean up
+     * @param names the lower-case names of the parameters to remove
+     */
+    static String removeQueryParameters(String url, Set<String> names) {
+        checkNotNull(url);
+        checkNotNull(names);
+        if (names.isEmpty()) {
+            return url;
+        }
+        var fragmentStart = url.indexOf('#');
+        var fragment = fragmentStart < 0 ? "" : url.substring(fragmentStart);
+        var rest = fragmentStart < 0 ? url : url.substring(0, fragmentStart);
+        var queryStart = rest.indexOf('?');
+        var path = queryStart < 0 ? rest : rest.substring(0, queryStart);
+        if (names.contains(JSESSIONID)) {
+            path = removeSessionId(path);
+        }
+        if (queryStart < 0) {
+            return path + fragment;
+        }
+        var query = new StringBuilder();
+        for (var parameter : QUERY_SPLITTER.split(
+                rest.substring(queryStart + 1))) {
+            if (parameter.isEmpty() || isRemoved(parameter, names)) {
+                continue;
+            }
+            query.append(query.length() == 0 ? '?' : '&').append(parameter);
+        }
+        return path + query + fragment;
+    }
+
+    private static boolean isRemoved(String parameter, Set<String> names) {
+        var end = parameter.indexOf('=');
+        var name = (end < 0 ? parameter : parameter.substring(0, end))
+                .toLowerCase(ROOT);
+        if (names.contains(name)) {
+            return true;
+        }
+        for (var pattern : names) {
+            if (pattern.endsWith("*") && name.startsWith(
+                    pattern.substring(0, pattern.length() - 1))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String removeSessionId(String path) {
+        var start = path.toLowerCase(ROOT).indexOf(";" + JSESSIONID + "=");
+        if (start < 0) {
+            return path;
+        }
+        var end = path.indexOf('/', start);
+        return end < 0
+                ? path.substring(0, start)
+                : path.substring(0, start) + path.substring(end);
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ *  Copyright 2026, TeamDev. All rights reserved.
+ *
+ *  Redistribution and use in source and/or binary forms, with or without
+ *  modification, must retain the above copyright notice and the following
+ *  disclaimer.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ *  "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ *  LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ *  A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ *  OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ *  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ *  LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *  DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *  THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ *  OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.teamdev.jxbrowser.examples.webcrawler;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An index of the URLs discovered by the crawler.
+ *
+ * <p>The index is thread-safe. It expects the URLs to be
+ * {@linkplain Urls#normalize(String) normalized}.
+ */
+interface VisitedIndex {
+
+    /**
+     * Creates a new empty index.
+     *
+     * @param compact if {@code true}, the index stores 64-bit fingerprints of
+     *                the URLs instead of the URLs themselves
+     */
+    static VisitedIndex newInstance(boolean compact) {
+        if (compact) {
+            return new FingerprintSet();
+        }
+        var urls = ConcurrentHashMap.<String>newKeySet();
+        return urls::add;
+    }
+
+    /**
+     * Adds the given {@code url} to the index.
+     *
+     * @return {@code true} if the index did not contain the URL yet
+     */
+    boolean add(String url);
+}
@@ -21,28 +21,64 @@
 package com.teamdev.jxbrowser.examples.webcrawler;
 
 import static com.google.common.base.Preconditions.checkNotNull;
-import static com.teamdev.jxbrowser.engine.RenderingMode.OFF_SCREEN;
+import static com.google.common.base.Preconditions.checkState;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 import com.google.common.collect.ImmutableSet;
 import com.teamdev.jxbrowser.browser.Browser;
-import com.teamdev.jxbrowser.engine.Engine;
-import com.teamdev.jxbrowser.engine.EngineOptions;
+import com.teamdev.jxbrowser.net.NetError;
 import java.io.Closeable;
-import java.util.HashSet;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A web crawler implementation that is based on JxBrowser that allows
  * discovering and analyzing the web pages, accessing their DOM and HTML
  * content, finding the broken links on a web page, etc.
+ *
+ * <p>The crawler analyzes the web pages using a pool of off-screen
+ * {@code Browser} instances. Every browser takes the next URL from the shared
+ * frontier of the discovered URLs, so several web pages are loaded and
+ * analyzed at the same time.
+ *
+ * <p>The frontier is processed iteratively in the configured
+ * {@linkplain CrawlOrder order}. The crawl can be bounded by the depth and
+ * the number of web pages, and the part of the frontier that exceeds its
+ * capacity is kept on disk.
+ *
+ * <p>The crawl progress can be saved to a checkpoint file, so that
+ * a long-running crawl can be {@linkplain #resume(Path) resumed} after the
+ * process restarts.
+ *
+ * <p>The crawler can follow the rules of the {@code robots.txt} file of the
+ * target website, and discover its web pages from the sitemaps up front.
  */
 public final class WebCrawler implements Closeable {
 
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+
     /**
      * Creates a new {@code com.teamdev.jxbrowser.examples.webcrawler.WebCrawler}
      * instance for the given target {@code url}.
      *
+     * <p>The created crawler analyzes the web pages one by one using a single
+     * {@code Browser} instance.
+     *
      * @param url            the URL of the target web page the crawler will
      *                       start its analysis
      * @param webPageFactory the factory used to create a {@link WebPage}
@@ -50,29 +86,59 @@ public final class WebCrawler implements Closeable {
      */
     public static WebCrawler newInstance(String url,
             WebPageFactory webPageFactory) {
-        return new WebCrawler(url, webPageFactory);
+        return new WebCrawler(url, webPageFactory,
+                WebCrawlerOptions.defaults());
     }
 
-    private final Engine engine;
-    private final Browser browser;
+    /**
+     * Creates a new {@code WebCrawler} instance for the given target
+     * {@code url} configured with the given {@code options}.
+     *
+     * @param url            the URL of the target web page the crawler will
+     *                       start its analysis
+     * @param webPageFactory the factory used to create a {@link WebPage}
+     *                       instance for the internal and external URLs
+     * @param options        the options that configure the crawler
+     */
+    public static WebCrawler newInstance(String url,
+            WebPageFactory webPageFactory, WebCrawlerOptions options) {
+        return new WebCrawler(url, webPageFactory, options);
+    }
+
+    private final BrowserPool browserPool;
     private final String targetUrl;
-    private final Set<WebPage> pages;
+    private final Map<String, WebPage> pages;
+    private final VisitedIndex discoveredUrls;
+    private final Frontier frontier;
+    private final AtomicInteger scheduledPages;
     private final WebPageFactory pageFactory;
+    private final WebCrawlerOptions options;
+    private final HtmlStore htmlStore;
+    private final DuplicateDetector duplicateDetector;
+    private final Object listenerLock = new Object();
+    private volatile CheckpointLog checkpointLog;
+    private volatile boolean started;
+    private volatile CrawlMetrics metrics = new CrawlMetrics();
+    private volatile RobotsTxt robotsTxt;
 
-    private WebCrawler(String url, WebPageFactory webPageFactory) {
+    private WebCrawler(String url, WebPageFactory webPageFactory,
+            WebCrawlerOptions options) {
         checkNotNull(url);
         checkNotNull(webPageFactory);
+        checkNotNull(options);
 
         targetUrl = url;
         pageFactory = webPageFactory;
-        pages = new HashSet<>();
-
-        engine = Engine.newInstance(
-                EngineOptions.newBuilder(OFF_SCREEN)
-                        // Visit the web pages in the Chromium's incognito mode.
-                        .enableIncognito()
-                        .build());
-        browser = engine.newBrowser();
+        pages = new ConcurrentHashMap<>();
+        discoveredUrls = VisitedIndex.newInstance(options.compactIndex());
+        frontier = new Frontier(options.order(), options.frontierCapacity());
+        scheduledPages = new AtomicInteger();
+        this.options = options;
+        htmlStore = options.htmlStore().map(HtmlStore::new).orElse(null);
+        duplicateDetector = options.deduplicate()
+                ? new DuplicateDetector()
+                : null;
+        browserPool = new BrowserPool(options);
     }
 
     /**
@@ -83,66 +149,297 @@ public final class WebCrawler implements Closeable {
      * <p>This operation blocks the current thread execution until the crawler
      * stops analyzing the discovered web pages.
      *
+     * <p>The listener is invoked from the threads of the browser pool, but
+     * never concurrently, so it does not have to be thread-safe. If the
+     * listener is a {@link CrawlStatisticsListener}, it also receives the
+     * crawl statistics periodically and once the crawl is finished.
+     *
      * @param listener a listener that will be invoked to report the progress
      */
     public void start(WebCrawlerListener listener) {
         checkNotNull(listener);
-        analyze(targetUrl, pageFactory, listener);
+        started = true;
+        if (checkpointLog == null) {
+            options.checkpoint().ifPresent(file -> checkpointLog =
+                    CheckpointLog.create(file, targetUrl,
+                            options.checkpointInterval()));
+        }
+        metrics = new CrawlMetrics();
+        try {
+            seed();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        var reporter = Executors.newSingleThreadScheduledExecutor();
+        if (listener instanceof CrawlStatisticsListener) {
+            var interval = options.statisticsInterval().toMillis();
+            reporter.scheduleAtFixedRate(
+                    () -> report((CrawlStatisticsListener) listener),
+                    interval, interval, MILLISECONDS);
+        }
+        var browsers = browserPool.browsers();
+        var workers = new ArrayList<Callable<Void>>(browsers.size());
+        for (var browser : browsers) {
+            workers.add(() -> {
+                crawl(browser, listener);
+                return null;
+            });
+        }
+        ExecutorService executor =
+                Executors.newFixedThreadPool(browsers.size());
+        try {
+            for (var result : executor.invokeAll(workers)) {
+                result.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("The web crawler has failed.",
+                    e.getCause());
+        } finally {
+            executor.shutdownNow();
+            reporter.shutdownNow();
+        }
+        if (listener instanceof CrawlStatisticsListener) {
+            report((CrawlStatisticsListener) listener);
+        }
+    }
+
+    /**
+     * Schedules the target URL and, if configured, the URLs listed in the
+     * sitemaps of the target website.
+     *
+     * <p>The {@code robots.txt} file is loaded first if configured, so that
+     * the disallowed URLs are not scheduled.
+     */
+    private void seed() throws InterruptedException {
+        if (!options.respectRobotsTxt() && !options.seedFromSitemaps()) {
+            schedule(targetUrl, 0);
+            return;
+        }
+        HttpClient client = HttpClient.newBuilder()
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(CONNECT_TIMEOUT)
+                .build();
+        RobotsTxt robots = RobotsTxt.load(client, targetUrl);
+        if (options.respectRobotsTxt()) {
+            robotsTxt = robots;
+            robots.crawlDelay().ifPresent(delay ->
+                    pageFactory.scheduler().crawlDelay(targetUrl, delay));
+        }
+        schedule(targetUrl, 0);
+        if (!options.seedFromSitemaps() || options.maxDepth() == 0) {
+            return;
+        }
+        List<String> sitemaps = robots.sitemaps().isEmpty()
+                ? List.of(URI.create(targetUrl).resolve("/sitemap.xml")
+                        .toString())
+                : robots.sitemaps();
+        // The URLs are scheduled as soon as they are loaded, and the sitemaps
+        // are no longer loaded once the maximum number of pages is reached.
+        new SitemapLoader(client, url -> {
+            if (url.startsWith(targetUrl)) {
+                schedule(url, 1);
+            }
+            return scheduledPages.get() < options.maxPages();
+        }).load(sitemaps);
+    }
+
+    private void report(CrawlStatisticsListener listener) {
+        var statistics = metrics.snapshot();
+        synchronized (listenerLock) {
+            listener.statisticsReported(statistics);
+        }
     }
 
-    private void analyze(String url, WebPageFactory factory,
+    /**
+     * Returns the performance statistics of the current or the last crawl.
+     */
+    public CrawlStatistics statistics() {
+        return metrics.snapshot();
+    }
+
+    /**
+     * Takes URLs from the frontier and analyzes them in the given
+     * {@code browser} until there is nothing left to analyze.
+     */
+    private void crawl(Browser browser, WebCrawlerListener listener)
+            throws InterruptedException {
+        Optional<Frontier.Entry> next;
+        while ((next = frontier.take()).isPresent()) {
+            try {
+                analyze(browser, next.get(), listener);
+            } finally {
+                frontier.done();
+            }
+        }
+    }
+
+    private void analyze(Browser browser, Frontier.Entry entry,
             WebCrawlerListener listener) {
-        if (!isVisited(url)) {
-            WebPage webPage = factory.create(browser, url);
-            pages.add(webPage);
+        String url = entry.url();
+        boolean external = !url.startsWith(targetUrl);
+        long start = System.nanoTime();
+        WebPage webPage = external && options.checkExternalLinksOnly()
+                ? pageFactory.check(browser, url, metrics)
+                : pageFactory.create(browser, url, metrics);
+        metrics.recordPage(start);
+        if (duplicateDetector != null && !external
+                && webPage.status() == NetError.OK) {
+            Optional<String> originalUrl =
+                    duplicateDetector.originalOf(webPage);
+            if (originalUrl.isPresent()) {
+                webPage = webPage.duplicateOf(originalUrl.get());
+            }
+        }
+        if (htmlStore != null) {
+            webPage = webPage.storedIn(htmlStore);
+        }
+        pages.put(Urls.normalize(url), webPage);
+        if (checkpointLog != null) {
+            checkpointLog.visited(webPage);
+        }
 
-            // Notify the listener that a web page has been visited.
+        // Notify the listener that a web page has been visited.
+        synchronized (listenerLock) {
             listener.webPageVisited(webPage);
+        }
 
-            // If it is an external web page, do not go through its links.
-            if (url.startsWith(targetUrl)) {
-                webPage.links().forEach(
-                        link -> analyze(link.url(), factory, listener));
+        // If it is an external web page, or the maximum depth is reached, do
+        // not go through its links. The links of a duplicate web page are
+        // followed, because the nearly same content may link to different
+        // web pages, and the already discovered ones are skipped anyway.
+        if (!external && entry.depth() < options.maxDepth()) {
+            webPage.links().forEach(
+                    link -> schedule(link.url(), entry.depth() + 1));
+        }
+    }
+
+    /**
+     * Adds the given {@code url} to the frontier unless it has already been
+     * discovered, is disallowed by {@code robots.txt}, or the maximum number
+     * of web pages is reached.
+     *
+     * <p>The ignored query parameters are removed from the URL first.
+     */
+    private void schedule(String discoveredUrl, int depth) {
+        if (scheduledPages.get() >= options.maxPages()) {
+            return;
+        }
+        String url = Urls.removeQueryParameters(discoveredUrl,
+                options.ignoredQueryParameters());
+        RobotsTxt robots = robotsTxt;
+        if (robots != null && url.startsWith(targetUrl)
+                && !robots.allows(url)) {
+            return;
+        }
+        if (discoveredUrls.add(Urls.normalize(url))
+                && scheduledPages.incrementAndGet() <= options.maxPages()) {
+            if (checkpointLog != null) {
+                checkpointLog.discovered(url, depth);
             }
+            frontier.add(url, depth);
         }
     }
 
     /**
-     * Checks if the given {@code url} belongs to already visited web page.
+     * Restores the crawl progress saved to the given {@code checkpoint} file,
+     * so that {@link #start(WebCrawlerListener)} continues the interrupted
+     * crawl instead of starting it from scratch.
+     *
+     * <p>The analyzed web pages are restored without HTML, unless it is kept
+     * in the {@linkplain WebCrawlerOptions.Builder#htmlStore(Path) store}.
+     * The listener is not notified about the restored web pages again.
+     *
+     * <p>The URLs that were discovered but not analyzed are put back to the
+     * frontier. The further progress is appended to the same file.
+     *
+     * @param checkpoint the file the progress has been saved to via
+     *                   {@link WebCrawlerOptions.Builder#checkpoint(Path)}
+     * @throws IllegalStateException    if the crawler has already been started
+     *                                  or resumed
+     * @throws IllegalArgumentException if the file is not a checkpoint of the
+     *                                  crawl of the same target URL
      */
-    private boolean isVisited(String url) {
-        checkNotNull(url);
-        return page(url).orElse(null) != null;
+    public void resume(Path checkpoint) {
+        checkNotNull(checkpoint);
+        checkState(!started && checkpointLog == null,
+                "The crawler has already been started.");
+
+        Map<String, Frontier.Entry> pending = new LinkedHashMap<>();
+        checkpointLog = CheckpointLog.resume(checkpoint, targetUrl,
+                options.checkpointInterval(), new CheckpointLog.Replay() {
+                    @Override
+                    public void discovered(String url, int depth) {
+                        String key = Urls.normalize(url);
+                        if (discoveredUrls.add(key)) {
+                            scheduledPages.incrementAndGet();
+                        }
+                        if (!pages.containsKey(key)) {
+                            pending.putIfAbsent(key,
+                                    new Frontier.Entry(url, depth));
+                        }
+                    }
+
+                    @Override
+                    public void visited(WebPage webPage) {
+                        String key = Urls.normalize(webPage.url());
+                        pages.put(key, htmlStore == null
+                                ? webPage
+                                : webPage.storedIn(htmlStore));
+                        pending.remove(key);
+                    }
+                });
+        pending.values().forEach(entry ->
+                frontier.add(entry.url(), entry.depth()));
     }
 
     /**
      * Returns an immutable set of the web pages analyzed by this crawler.
      */
     public ImmutableSet<WebPage> pages() {
-        return ImmutableSet.copyOf(pages);
+        return ImmutableSet.copyOf(pages.values());
     }
 
     /**
      * Returns an optional that contains a web page associated with the given
      * {@code url} or an empty options if there is no such web page.
+     *
+     * <p>The web pages are indexed by their normalized URLs, so the lookup
+     * takes constant time, and the URLs that differ only in the letter case
+     * of the host, the default port, the dot segments, the fragment, the
+     * trailing slash, or the {@linkplain
+     * WebCrawlerOptions#ignoredQueryParameters() ignored query parameters}
+     * point to the same web page.
      */
     public Optional<WebPage> page(String url) {
         checkNotNull(url);
-
-        for (WebPage page : pages) {
-            if (page.url().equals(url)) {
-                return Optional.of(page);
-            }
-        }
-        return Optional.empty();
+        String key = Urls.normalize(Urls.removeQueryParameters(url,
+                options.ignoredQueryParameters()));
+        return Optional.ofNullable(pages.get(key));
     }
 
     /**
-     * Releases all allocated resources and closes the web browser instance used
-     * to discover and analyze the web pages.
+     * Releases all allocated resources and closes the web browser instances
+     * used to discover and analyze the web pages.
      */
     @Override
     public void close() {
-        engine.close();
+        browserPool.close();
+        try {
+            frontier.close();
+        } catch (IOException ignore) {
+            // The spilled frontier is stored in the temporary files that are
+            // cleaned up by the operating system anyway.
+        }
+        if (checkpointLog != null) {
+            try {
+                checkpointLog.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
     }
 }
@@ -0,0 +1,590 @@
+/*
+ *  Copyright 2026, TeamDev. All rights reserved.
+ *
+ *  Redistribution and use in source and/or binary forms, with or without
+ *  modification, must retain the above copyright notice and the following
+ *  disclaimer.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ *  "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ *  LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ *  A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ *  OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ *  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ *  LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *  DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *  THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ *  OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.teamdev.jxbrowser.examples.webcrawler;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static com.google.common.collect.ImmutableSet.toImmutableSet;
+import static java.util.Locale.ROOT;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.teamdev.jxbrowser.net.Scheme;
+import com.teamdev.jxbrowser.net.callback.InterceptUrlRequestCallback;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * The options that configure how {@link WebCrawler} discovers and analyzes the
+ * web pages.
+ *
+ * <p>By default, the crawler analyzes web pages one by one using a single
+ * {@code Browser} instance.
+ */
+public final class WebCrawlerOptions {
+
+    /**
+     * The commonly used tracking and session query parameters.
+     *
+     * @see Builder#ignoredQueryParameters(Set)
+     */
+    public static final ImmutableSet<String> TRACKING_QUERY_PARAMETERS =
+            ImmutableSet.of("utm_*", "gclid", "fbclid", "msclkid", "yclid",
+                    "mc_cid", "mc_eid", "_ga", "jsessionid", "phpsessid",
+                    "sessionid", "sid");
+
+    private final int browsers;
+    private final int engines;
+    private final CrawlOrder order;
+    private final int maxDepth;
+    private final int maxPages;
+    private final int frontierCapacity;
+    private final boolean compactIndex;
+    private final boolean checkExternalLinksOnly;
+    private final boolean skipHeavyResources;
+    private final Path checkpoint;
+    private final Duration checkpointInterval;
+    private final Path htmlStore;
+    private final ImmutableSet<String> ignoredQueryParameters;
+    private final boolean deduplicate;
+    private final Duration statisticsInterval;
+    private final boolean respectRobotsTxt;
+    private final boolean seedFromSitemaps;
+    private final ImmutableMap<Scheme, InterceptUrlRequestCallback> schemes;
+
+    private WebCrawlerOptions(Builder builder) {
+        this.browsers = builder.browsers;
+        this.engines = builder.engines;
+        this.order = builder.order;
+        this.maxDepth = builder.maxDepth;
+        this.maxPages = builder.maxPages;
+        this.frontierCapacity = builder.frontierCapacity;
+        this.compactIndex = builder.compactIndex;
+        this.checkExternalLinksOnly = builder.checkExternalLinksOnly;
+        this.skipHeavyResources = builder.skipHeavyResources;
+        this.checkpoint = builder.checkpoint;
+        this.checkpointInterval = builder.checkpointInterval;
+        this.htmlStore = builder.htmlStore;
+        this.ignoredQueryParameters = builder.ignoredQueryParameters;
+        this.deduplicate = builder.deduplicate;
+        this.statisticsInterval = builder.statisticsInterval;
+        this.respectRobotsTxt = builder.respectRobotsTxt;
+        this.seedFromSitemaps = builder.seedFromSitemaps;
+        this.schemes = ImmutableMap.copyOf(builder.schemes);
+    }
+
+    /**
+     * Creates a new builder of the web crawler options.
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the options with the default values.
+     */
+    static WebCrawlerOptions defaults() {
+        return newBuilder().build();
+    }
+
+    /**
+     * Returns the number of {@code Browser} instances that load and analyze
+     * the web pages at the same time.
+     */
+    public int browsers() {
+        return browsers;
+    }
+
+    /**
+     * Returns the number of {@code Engine} instances the browsers are spread
+     * over.
+     */
+    public int engines() {
+        return engines;
+    }
+
+    /**
+     * Returns the order in which the discovered web pages are analyzed.
+     */
+    public CrawlOrder order() {
+        return order;
+    }
+
+    /**
+     * Returns the maximum number of links between the target web page and
+     * an analyzed web page.
+     */
+    public int maxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Returns the maximum number of web pages the crawler analyzes.
+     */
+    public int maxPages() {
+        return maxPages;
+    }
+
+    /**
+     * Returns the maximum number of the discovered URLs the frontier keeps in
+     * memory.
+     */
+    public int frontierCapacity() {
+        return frontierCapacity;
+    }
+
+    /**
+     * Returns {@code true} if the crawler keeps 64-bit fingerprints of the
+     * discovered URLs instead of the URLs themselves.
+     */
+    public boolean compactIndex() {
+        return compactIndex;
+    }
+
+    /**
+     * Returns {@code true} if the crawler only checks whether the external web
+     * pages are accessible instead of loading and analyzing them.
+     */
+    public boolean checkExternalLinksOnly() {
+        return checkExternalLinksOnly;
+    }
+
+    /**
+     * Returns {@code true} if the engines do not load images, media, fonts,
+     * and style sheets.
+     */
+    public boolean skipHeavyResources() {
+        return skipHeavyResources;
+    }
+
+    /**
+     * Returns the file the crawl progress is saved to, or an empty
+     * {@code Optional} if the progress is not saved.
+     */
+    public Optional<Path> checkpoint() {
+        return Optional.ofNullable(checkpoint);
+    }
+
+    /**
+     * Returns the interval between flushing the crawl progress to disk.
+     */
+    public Duration checkpointInterval() {
+        return checkpointInterval;
+    }
+
+    /**
+     * Returns the directory HTML of the analyzed web pages is saved to, or
+     * an empty {@code Optional} if HTML is kept in memory.
+     */
+    public Optional<Path> htmlStore() {
+        return Optional.ofNullable(htmlStore);
+    }
+
+    /**
+     * Returns the lower-case names of the query parameters removed from the
+     * discovered URLs.
+     */
+    public ImmutableSet<String> ignoredQueryParameters() {
+        return ignoredQueryParameters;
+    }
+
+    /**
+     * Returns {@code true} if the crawler detects the web pages with the same
+     * or nearly the same content and does not follow their links.
+     */
+    public boolean deduplicate() {
+        return deduplicate;
+    }
+
+    /**
+     * Returns the interval between reporting the crawl statistics.
+     */
+    public Duration statisticsInterval() {
+        return statisticsInterval;
+    }
+
+    /**
+     * Returns {@code true} if the crawler follows the rules of the
+     * {@code robots.txt} file of the target website.
+     */
+    public boolean respectRobotsTxt() {
+        return respectRobotsTxt;
+    }
+
+    /**
+     * Returns {@code true} if the crawler discovers the web pages listed in
+     * the sitemaps of the target website before the crawl.
+     */
+    public boolean seedFromSitemaps() {
+        return seedFromSitemaps;
+    }
+
+    /**
+     * Returns an immutable map of the schemes intercepted by the engines of
+     * the crawler to the callbacks that handle their URL requests.
+     */
+    public ImmutableMap<Scheme, InterceptUrlRequestCallback> schemes() {
+        return schemes;
+    }
+
+    /**
+     * A builder of {@link WebCrawlerOptions}.
+     */
+    public static final class Builder {
+
+        private int browsers = 1;
+        private int engines = 1;
+        private CrawlOrder order = CrawlOrder.BREADTH_FIRST;
+        private int maxDepth = Integer.MAX_VALUE;
+        private int maxPages = Integer.MAX_VALUE;
+        private int frontierCapacity = 100_000;
+        private boolean compactIndex;
+        private boolean checkExternalLinksOnly;
+        private boolean skipHeavyResources;
+        private Path checkpoint;
+        private Duration checkpointInterval = Duration.ofSeconds(10);
+        private Path htmlStore;
+        private ImmutableSet<String> ignoredQueryParameters = ImmutableSet.of();
+        private boolean deduplicate;
+        private Duration statisticsInterval = Duration.ofSeconds(10);
+        private boolean respectRobotsTxt;
+        private boolean seedFromSitemaps;
+        private final Map<Scheme, InterceptUrlRequestCallback> schemes =
+                new LinkedHashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the number of off-screen {@code Browser} instances that load
+         * and analyze the discovered web pages in parallel.
+         *
+         * <p>The default value is {@code 1}.
+         *
+         * @param browsers the size of the browser pool
+         */
+        public Builder browsers(int browsers) {
+            checkArgument(browsers > 0,
+                    "The number of browsers must be positive.");
+            this.browsers = browsers;
+            return this;
+        }
+
+        /**
+         * Sets the number of {@code Engine} instances the browser pool is
+         * spread over.
+         *
+         * <p>Every {@code Engine} runs a separate Chromium main process, so
+         * using several engines lets Chromium use more CPU cores at the cost
+         * of a bigger memory footprint. The default value is {@code 1}.
+         *
+         * @param engines the number of engines
+         */
+        public Builder engines(int engines) {
+            checkArgument(engines > 0,
+                    "The number of engines must be positive.");
+            this.engines = engines;
+            return this;
+        }
+
+        /**
+         * Sets the order in which the discovered web pages are analyzed.
+         *
+         * <p>The default value is {@link CrawlOrder#BREADTH_FIRST}.
+         *
+         * @param order the crawl order
+         */
+        public Builder order(CrawlOrder order) {
+            checkNotNull(order);
+            this.order = order;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of links the crawler follows from the target
+         * web page.
+         *
+         * <p>The target web page has the depth {@code 0}, the web pages it
+         * links to have the depth {@code 1}, and so on. The links found on
+         * the web pages of the maximum depth are not followed. By default,
+         * the depth is not limited.
+         *
+         * @param maxDepth the maximum depth of the analyzed web pages
+         */
+        public Builder maxDepth(int maxDepth) {
+            checkArgument(maxDepth >= 0,
+                    "The maximum depth must not be negative.");
+            this.maxDepth = maxDepth;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of web pages the crawler analyzes, including
+         * the external ones.
+         *
+         * <p>By default, the number of web pages is not limited.
+         *
+         * @param maxPages the maximum number of web pages
+         */
+        public Builder maxPages(int maxPages) {
+            checkArgument(maxPages > 0,
+                    "The maximum number of pages must be positive.");
+            this.maxPages = maxPages;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of the discovered URLs the frontier keeps in
+         * memory.
+         *
+         * <p>When the frontier grows over the capacity, the overflow is
+         * spilled to temporary files on disk and read back when the crawler
+         * gets to it. The default value is {@code 100_000}.
+         *
+         * @param frontierCapacity the number of URLs to keep in memory
+         */
+        public Builder frontierCapacity(int frontierCapacity) {
+            checkArgument(frontierCapacity > 1,
+                    "The frontier capacity must be greater than one.");
+            this.frontierCapacity = frontierCapacity;
+            return this;
+        }
+
+        /**
+         * Makes the crawler keep 64-bit fingerprints of the discovered URLs
+         * instead of the URLs themselves.
+         *
+         * <p>Use this mode for huge crawls, where the index of millions of
+         * discovered URLs would take too much memory. There is a tiny chance
+         * that two different URLs get the same fingerprint, in which case
+         * the second one is not analyzed. By default, the URLs are stored
+         * as is.
+         */
+        public Builder compactIndex() {
+            this.compactIndex = true;
+            return this;
+        }
+
+        /**
+         * Makes the crawler only check whether the external web pages are
+         * accessible.
+         *
+         * <p>In this mode, the crawler waits only for the response to the main
+         * document of an external web page and does not capture its HTML and
+         * links.
+         *
+         * <p>Use this mode for the dead link audits. By default, the external
+         * web pages are loaded and analyzed completely.
+         */
+        public Builder checkExternalLinksOnly() {
+            this.checkExternalLinksOnly = true;
+            return this;
+        }
+
+        /**
+         * Makes the engines skip loading images, media, fonts, and style
+         * sheets on all web pages.
+         *
+         * <p>The crawler needs neither of them to find the links, so this
+         * makes the crawl faster. However, the web pages are analyzed without
+         * them, so do not use this mode if the listener needs the web pages
+         * as they are rendered. By default, all the resources are loaded.
+         */
+        public Builder skipHeavyResources() {
+            this.skipHeavyResources = true;
+            return this;
+        }
+
+        /**
+         * Sets the file to save the crawl progress to.
+         *
+         * <p>The crawler appends every discovered URL and every analyzed web
+         * page to this file. If the crawl is interrupted, it can be continued
+         * using {@link WebCrawler#resume(Path)}. By default, the progress is
+         * not saved.
+         *
+         * @param checkpoint the path to the checkpoint file
+         */
+        public Builder checkpoint(Path checkpoint) {
+            checkNotNull(checkpoint);
+            this.checkpoint = checkpoint;
+            return this;
+        }
+
+        /**
+         * Sets how often the crawl progress is flushed to disk.
+         *
+         * <p>The progress made since the last flush is lost if the process
+         * crashes. The default value is 10 seconds.
+         *
+         * @param checkpointInterval the interval between the flushes
+         */
+        public Builder checkpointInterval(Duration checkpointInterval) {
+            checkNotNull(checkpointInterval);
+            checkArgument(!checkpointInterval.isNegative(),
+                    "The checkpoint interval must not be negative.");
+            this.checkpointInterval = checkpointInterval;
+            return this;
+        }
+
+        /**
+         * Sets the directory to save HTML of the analyzed web pages to.
+         *
+         * <p>HTML of every web page is compressed and saved to a file named
+         * after the hash of its content. The web pages keep only the hash and
+         * load HTML from disk when {@link WebPage#html()} is called, so the
+         * memory footprint does not grow with the website size. If the crawl
+         * is {@linkplain WebCrawler#resume(Path) resumed}, HTML of the
+         * restored web pages is loaded from this directory as well.
+         *
+         * <p>By default, HTML is kept in memory.
+         *
+         * @param directory the directory to save HTML to
+         */
+        public Builder htmlStore(Path directory) {
+            checkNotNull(directory);
+            this.htmlStore = directory;
+            return this;
+        }
+
+        /**
+         * Sets the names of the query parameters to remove from the discovered
+         * URLs.
+         *
+         * <p>Many websites serve the same web page under URLs that differ
+         * only in the tracking parameters or session IDs. Removing such
+         * parameters lets the crawler recognize these URLs as the same web
+         * page and load it once.
+         *
+         * <p>The names are case-insensitive. A name that ends with {@code *}
+         * matches all the parameters that start with it. The
+         * {@link #TRACKING_QUERY_PARAMETERS} set contains the commonly used
+         * tracking and session parameters. By default, no parameters are
+         * removed.
+         *
+         * @param names the names of the query parameters to remove
+         */
+        public Builder ignoredQueryParameters(Set<String> names) {
+            checkNotNull(names);
+            this.ignoredQueryParameters = names.stream()
+                    .map(name -> name.toLowerCase(ROOT))
+                    .collect(toImmutableSet());
+            return this;
+        }
+
+        /**
+         * Makes the crawler detect the web pages with the same or nearly the
+         * same content.
+         *
+         * <p>The crawler compares the content hash and the SimHash fingerprint
+         * of every analyzed internal web page with the web pages analyzed
+         * earlier. A duplicate web page is reported with the
+         * {@linkplain WebPage#originalUrl() original URL}. Its links are
+         * still followed, so the detection does not reduce the coverage of
+         * the crawl. By default, the duplicates are not detected.
+         */
+        public Builder deduplicate() {
+            this.deduplicate = true;
+            return this;
+        }
+
+        /**
+         * Sets how often the crawl statistics are reported to
+         * a {@link CrawlStatisticsListener}.
+         *
+         * <p>The default value is 10 seconds.
+         *
+         * @param statisticsInterval the interval between the reports
+         */
+        public Builder statisticsInterval(Duration statisticsInterval) {
+            checkNotNull(statisticsInterval);
+            checkArgument(!statisticsInterval.isNegative()
+                            && !statisticsInterval.isZero(),
+                    "The statistics interval must be positive.");
+            this.statisticsInterval = statisticsInterval;
+            return this;
+        }
+
+        /**
+         * Makes the crawler follow the rules of the {@code robots.txt} file of
+         * the target website.
+         *
+         * <p>The internal web pages disallowed for all user agents are not
+         * analyzed, and the {@code Crawl-delay} is respected by the
+         * {@link PolitenessScheduler}. The external links are checked
+         * regardless of the rules of their websites. By default, the
+         * {@code robots.txt} file is not loaded.
+         */
+        public Builder respectRobotsTxt() {
+            this.respectRobotsTxt = true;
+            return this;
+        }
+
+        /**
+         * Makes the crawler discover the internal web pages listed in the
+         * sitemaps of the target website before the crawl starts.
+         *
+         * <p>The sitemaps are taken from the {@code robots.txt} file, or the
+         * {@code /sitemap.xml} is used if there are none. The web pages from
+         * the sitemaps are analyzed as the links of the target web page. By
+         * default, the web pages are discovered only by following the links.
+         */
+        public Builder seedFromSitemaps() {
+            this.seedFromSitemaps = true;
+            return this;
+        }
+
+        /**
+         * Makes the engines of the crawler handle the URL requests with the
+         * given {@code scheme} using the given {@code callback}.
+         *
+         * <p>This allows crawling the websites generated on the fly or served
+         * from a local source, for example, in the benchmarks.
+         *
+         * @see com.teamdev.jxbrowser.engine.EngineOptions.Builder#addScheme
+         */
+        public Builder addScheme(Scheme scheme,
+                InterceptUrlRequestCallback callback) {
+            checkNotNull(scheme);
+            checkNotNull(callback);
+            this.schemes.put(scheme, callback);
+            return this;
+        }
+
+        /**
+         * Creates the web crawler options.
+         *
+         * @throws IllegalStateException if there are more engines than
+         *                               browsers
+         */
+        public WebCrawlerOptions build() {
+            checkState(engines <= browsers,
+                    "The number of engines cannot exceed the number of "
+                            + "browsers.");
+            return new WebCrawlerOptions(this);
+        }
+    }
+}
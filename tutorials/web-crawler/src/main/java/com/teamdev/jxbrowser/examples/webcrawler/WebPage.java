@@ -25,33 +25,69 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import com.google.common.collect.ImmutableSet;
 import com.teamdev.jxbrowser.net.NetError;
 import java.util.Collections;
+import java.util.Optional;
 import java.util.Set;
 
 /**
  * Represents the details of a web page such as its URL, HTML, the status code
  * from web server, and the list of anchors found on it.
+ *
+ * <p>HTML of the web page is either kept in memory or saved to an
+ * {@link HtmlStore}. In the latter case, the web page keeps only the hash of
+ * its content and loads HTML from the store on demand.
  */
 public final class WebPage {
 
     private final String url;
-    private final String html;
     private final NetError status;
     private final ImmutableSet<Link> links;
 
+    /**
+     * The hash of HTML of the web page, or {@code null} if it has not been
+     * computed yet.
+     */
+    private volatile String contentHash;
+
+    /**
+     * HTML of the web page, or {@code null} if it is kept in the store or not
+     * available.
+     */
+    private final String html;
+
+    /**
+     * The store that keeps HTML of the web page, or {@code null} if HTML is
+     * kept in memory.
+     */
+    private final HtmlStore htmlStore;
+
+    /**
+     * The URL of the web page this one duplicates, or {@code null} if it is
+     * an original.
+     */
+    private final String originalUrl;
+
     private WebPage(String url, NetError status) {
         this(url, status, "", Collections.emptySet());
     }
 
     private WebPage(String url, NetError status, String html, Set<Link> links) {
+        this(url, status, links, null, html, null, null);
+    }
+
+    private WebPage(String url, NetError status, Set<Link> links,
+            String contentHash, String html, HtmlStore htmlStore,
+            String originalUrl) {
         checkNotNull(url);
         checkNotNull(status);
-        checkNotNull(html);
         checkNotNull(links);
 
         this.url = url;
-        this.html = html;
         this.status = status;
         this.links = ImmutableSet.copyOf(links);
+        this.contentHash = contentHash;
+        this.html = html;
+        this.htmlStore = htmlStore;
+        this.originalUrl = originalUrl;
     }
 
     /**
@@ -62,6 +98,10 @@ public final class WebPage {
      * {@code WebPage}. The status code should represent the network error
      * obtained from web server that explains why the web page is not
      * accessible.
+     *
+     * <p>It is also used for the web pages that were only checked for being
+     * accessible, in which case the status is {@link NetError#OK}, and the
+     * web page has neither HTML nor links.
      */
     static WebPage newInstance(String url, NetError status) {
         return new WebPage(url, status);
@@ -78,6 +118,68 @@ public final class WebPage {
         return new WebPage(url, NetError.OK, html, links);
     }
 
+    /**
+     * Creates a {@code WebPage} instance restored from a crawl checkpoint.
+     *
+     * <p>The checkpoint does not keep HTML, so the restored web page has an
+     * empty HTML until it is {@linkplain #storedIn(HtmlStore) bound} to
+     * the store that keeps it.
+     *
+     * @param url         the URL of the web page
+     * @param status      the status code from web server
+     * @param links       the list of links found on the web page
+     * @param contentHash the hash of HTML of the web page, or {@code null} if
+     *                    HTML has not been stored
+     * @param originalUrl the URL of the web page this one duplicates, or
+     *                    {@code null} if it is an original
+     */
+    static WebPage restore(String url, NetError status, Set<Link> links,
+            String contentHash, String originalUrl) {
+        return new WebPage(url, status, links, contentHash, null, null,
+                originalUrl);
+    }
+
+    /**
+     * Returns a copy of this web page that keeps its HTML in the given
+     * {@code store} instead of memory.
+     *
+     * <p>If this web page holds HTML in memory, it is saved to the store.
+     * If the web page has no HTML to store, it is returned as is.
+     */
+    WebPage storedIn(HtmlStore store) {
+        checkNotNull(store);
+        if (html != null) {
+            if (html.isEmpty()) {
+                // There is nothing to save.
+                return this;
+            }
+            store.save(contentHash(), html);
+        } else if (contentHash == null) {
+            // The web page has been restored without HTML, because it had
+            // none to store.
+            return this;
+        }
+        return new WebPage(url, status, links, contentHash, null, store,
+                originalUrl);
+    }
+
+    /**
+     * Checks if HTML of this web page is kept in an {@link HtmlStore}.
+     */
+    boolean isStored() {
+        return htmlStore != null;
+    }
+
+    /**
+     * Returns a copy of this web page marked as a duplicate of the web page
+     * with the given {@code originalUrl}.
+     */
+    WebPage duplicateOf(String originalUrl) {
+        checkNotNull(originalUrl);
+        return new WebPage(url, status, links, contentHash, html, htmlStore,
+                originalUrl);
+    }
+
     /**
      * Returns URL of the web page.
      */
@@ -94,9 +196,41 @@ public final class WebPage {
 
     /**
      * Returns HTML of this web page.
+     *
+     * <p>If HTML is kept in the store, every call loads it from disk.
      */
     public String html() {
-        return html;
+        if (html != null) {
+            return html;
+        }
+        if (htmlStore != null) {
+            return htmlStore.load(contentHash).orElse("");
+        }
+        return "";
+    }
+
+    /**
+     * Returns the SHA-256 hash of HTML of this web page as a hex string.
+     *
+     * <p>The hash is computed on the first call, so the web pages that are
+     * neither stored nor checked for duplicates are never hashed.
+     */
+    public String contentHash() {
+        var hash = contentHash;
+        if (hash == null) {
+            hash = HtmlStore.hash(html());
+            contentHash = hash;
+        }
+        return hash;
+    }
+
+    /**
+     * Returns the URL of the web page with the same or nearly the same
+     * content that has been analyzed earlier, or an empty {@code Optional}
+     * if this web page is an original.
+     */
+    public Optional<String> originalUrl() {
+        return Optional.ofNullable(originalUrl);
     }
 
     /**
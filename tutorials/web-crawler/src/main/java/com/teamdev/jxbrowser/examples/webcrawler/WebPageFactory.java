@@ -21,18 +21,26 @@
 package com.teamdev.jxbrowser.examples.webcrawler;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.teamdev.jxbrowser.examples.webcrawler.CrawlPhase.HTML_CAPTURE;
+import static com.teamdev.jxbrowser.examples.webcrawler.CrawlPhase.LINK_EXTRACTION;
+import static com.teamdev.jxbrowser.examples.webcrawler.CrawlPhase.PAGE_LOAD;
+import static com.teamdev.jxbrowser.examples.webcrawler.CrawlPhase.POLITENESS_DELAY;
+import static com.teamdev.jxbrowser.examples.webcrawler.CrawlPhase.RESPONSE;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
+import com.google.common.base.Splitter;
 import com.teamdev.jxbrowser.browser.Browser;
 import com.teamdev.jxbrowser.frame.Frame;
 import com.teamdev.jxbrowser.navigation.NavigationException;
 import com.teamdev.jxbrowser.navigation.TimeoutException;
+import com.teamdev.jxbrowser.navigation.event.NavigationFinished;
 import com.teamdev.jxbrowser.net.NetError;
-import java.net.URI;
 import java.time.Duration;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -42,27 +50,62 @@ import java.util.concurrent.atomic.AtomicReference;
 public final class WebPageFactory {
 
     /**
-     * The delay in milliseconds between navigation.
+     * The number or navigation attempts.
      *
-     * <p>Some web servers detect frequent HTTP/HTTPS requests and mark this
-     * activity as "suspicious" that might be a sing of a DDoS attack. Too
-     * frequent request might be aborted in this case. To get rid of aborted
-     * requests, we use a delay between navigation, to simulate a human. Human
-     * cannot manually navigate to a web page a dozen times per second.
+     * <p>Some web servers might abort "suspicious" requests. In this case
+     * navigation will fail with {@link NetError#ABORTED}. We do not give up and
+     * try sending request again several times after a growing delay.
+     */
+    private static final int NAVIGATION_ATTEMPTS = 3;
+
+    /**
+     * The time to wait for a web page to load.
+     */
+    private static final Duration NAVIGATION_TIMEOUT = Duration.ofSeconds(30);
+
+    /**
+     * The script that returns the {@code href} attribute values of all the
+     * anchors on the web page joined with the {@code NUL} character.
      *
-     * <p>Politeness delay in milliseconds (delay between sending two requests
-     * to the same host).
+     * <p>The HTML parser never puts {@code NUL} into attribute values, so it
+     * safely separates the values.
+     */
+    private static final String COLLECT_HREFS_SCRIPT =
+            "Array.from(document.getElementsByTagName('a'))"
+                    + ".map(a => a.getAttribute('href'))"
+                    + ".filter(href => href !== null)"
+                    + ".join('\\0')";
+
+    private static final Splitter HREF_SPLITTER = Splitter.on('\0');
+
+    private final PolitenessScheduler scheduler;
+
+    /**
+     * Creates a factory that sends one request per host every 500
+     * milliseconds.
      */
-    private static final int NAVIGATION_DELAY_MS = 500;
+    public WebPageFactory() {
+        this(PolitenessScheduler.newInstance());
+    }
 
     /**
-     * The number or navigation attempts.
+     * Creates a factory that sends the requests as allowed by the given
+     * {@code scheduler}.
      *
-     * <p>Some web servers might abort "suspicious" requests. In this case
-     * navigation will fail with {@link NetError#ABORTED}. We do not give up and
-     * try sending request again several times with bigger delay.
+     * <p>Share the same scheduler between the factories that work with the
+     * same hosts to keep the total rate of requests within the limits.
      */
-    private static final int NAVIGATION_ATTEMPTS = 3;
+    public WebPageFactory(PolitenessScheduler scheduler) {
+        checkNotNull(scheduler);
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Returns the scheduler that limits the rate of requests of this factory.
+     */
+    PolitenessScheduler scheduler() {
+        return scheduler;
+    }
 
     /**
      * Creates a {@link WebPage} instance for the given {@code url}.
@@ -70,60 +113,138 @@ public final class WebPageFactory {
      * @param browser the web browser instance used to load web page and access
      *                its DOM
      * @param url     the URL of the web page to load and analyze
+     * @param metrics the recorder of the time spent in every phase
      *
      * @return a {@link WebPage} instance that contains the info about web page
      * such as the anchors and HTML of the web page
      */
-    WebPage create(Browser browser, String url) {
-        NetError status = loadUrlAndWait(browser, url, NAVIGATION_ATTEMPTS);
+    WebPage create(Browser browser, String url, CrawlMetrics metrics) {
+        NetError status = loadUrlAndWait(browser, url, metrics);
         if (status != NetError.OK) {
             return WebPage.newInstance(url, status);
         }
+        long start = System.nanoTime();
         Set<Link> links = links(browser);
+        metrics.record(LINK_EXTRACTION, start);
+        start = System.nanoTime();
         String html = html(browser);
+        metrics.record(HTML_CAPTURE, start);
         return WebPage.newInstance(url, html, links);
     }
 
+    /**
+     * Creates a {@link WebPage} instance for the given {@code url} that
+     * contains only the status of the web page.
+     *
+     * <p>This method is used to check whether a link is alive. It returns as
+     * soon as the response to the main document is received, without waiting
+     * for the web page to load, capturing its HTML, and analyzing its DOM.
+     *
+     * @param browser the web browser instance used to send the request
+     * @param url     the URL to check
+     * @param metrics the recorder of the time spent in every phase
+     */
+    WebPage check(Browser browser, String url, CrawlMetrics metrics) {
+        return WebPage.newInstance(url,
+                loadUntilResponse(browser, url, metrics));
+    }
+
     /**
      * Loads the given {@code url} and waits until the web page is loaded
      * completely.
      *
-     * @return {@code true} if the web page has been loaded successfully. If the
-     * given URL is dead, or we didn't manage to load it within 45 seconds,
-     * returns {@code false}.
-     *
-     * @implNote before every navigation we wait for {@link
-     * #NAVIGATION_DELAY_MS} because web server may abort often URL requests to
-     * protect itself from DDoS attacks.
+     * @return {@link NetError#OK} if the web page has been loaded
+     * successfully, or the network error if the given URL is dead, or we
+     * didn't manage to load it within 30 seconds
      */
     private NetError loadUrlAndWait(Browser browser, String url,
-            int navigationAttempts) {
-        // All our attempts to load the given url were rejected.
-        // We give up and continue processing other web pages.
-        if (navigationAttempts == 0) {
-            return NetError.ABORTED;
-        }
-        try {
-            // Web server might abort often URL requests to protect itself from
-            // DDoS attack. Use a delay between URL requests.
-            long timeout = (long) NAVIGATION_DELAY_MS * navigationAttempts;
-            TimeUnit.MILLISECONDS.sleep(timeout);
-            // Load the given URL and wait until web page is loaded completely.
-            browser.navigation().loadUrlAndWait(url, Duration.ofSeconds(30));
-        } catch (NavigationException e) {
-            NetError netError = e.netError();
-            if (netError == NetError.ABORTED) {
-                // If web server aborts our request, try again.
-                return loadUrlAndWait(browser, url, --navigationAttempts);
+            CrawlMetrics metrics) {
+        return navigate(url, metrics, PAGE_LOAD, () -> {
+            try {
+                // Load the given URL and wait until web page is loaded
+                // completely.
+                browser.navigation().loadUrlAndWait(url, NAVIGATION_TIMEOUT);
+                return NetError.OK;
+            } catch (NavigationException e) {
+                return e.netError();
+            }
+        });
+    }
+
+    /**
+     * Starts loading the given {@code url} and waits until the main document
+     * navigation is finished, which happens right after the response is
+     * received.
+     *
+     * @return {@link NetError#OK} if the web server has responded, or the
+     * network error if the given URL is dead, or we didn't get the response
+     * within 30 seconds
+     */
+    private NetError loadUntilResponse(Browser browser, String url,
+            CrawlMetrics metrics) {
+        return navigate(url, metrics, RESPONSE, () -> {
+            var navigation = browser.navigation();
+            var status = new CompletableFuture<NetError>();
+            var subscription = navigation.on(NavigationFinished.class,
+                    event -> {
+                        if (event.isMainFrame()) {
+                            status.complete(event.error());
+                        }
+                    });
+            try {
+                navigation.loadUrl(url);
+                return status.get(NAVIGATION_TIMEOUT.toMillis(), MILLISECONDS);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException(e);
+            } catch (java.util.concurrent.TimeoutException e) {
+                throw new TimeoutException();
+            } finally {
+                subscription.unsubscribe();
+                // The status is known, so there is no need to load the rest
+                // of the web page.
+                navigation.stop();
+            }
+        });
+    }
+
+    /**
+     * Performs the given navigation {@code attempt} to the given {@code url}
+     * retrying it if the web server aborts the request.
+     *
+     * <p>The time of the navigation attempts is recorded as the given
+     * {@code phase}.
+     *
+     * @implNote before every navigation we wait until the politeness
+     * scheduler allows a request to the host, because web server may abort
+     * often URL requests to protect itself from DDoS attacks.
+     */
+    private NetError navigate(String url, CrawlMetrics metrics,
+            CrawlPhase phase, NavigationAttempt attempt) {
+        for (var attempts = 1; attempts <= NAVIGATION_ATTEMPTS; attempts++) {
+            long start = System.nanoTime();
+            try {
+                scheduler.acquire(url);
+                metrics.record(POLITENESS_DELAY, start);
+                start = System.nanoTime();
+                NetError netError = attempt.navigate();
+                metrics.record(phase, start);
+                if (netError != NetError.ABORTED) {
+                    return netError;
+                }
+                // If web server aborts our request, slow down and try again.
+                scheduler.backoff(url, attempts);
+            } catch (TimeoutException e) {
+                // Web server did not respond within 30 seconds.
+                metrics.record(phase, start);
+                return NetError.CONNECTION_TIMED_OUT;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return NetError.ABORTED;
             }
-            return netError;
-        } catch (TimeoutException e) {
-            // Web server did not respond within 30 seconds (
-            return NetError.CONNECTION_TIMED_OUT;
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
         }
-        return NetError.OK;
+        // All our attempts to load the given url were rejected.
+        // We give up and continue processing other web pages.
+        return NetError.ABORTED;
     }
 
     /**
@@ -138,12 +259,69 @@ public final class WebPageFactory {
     /**
      * Returns a set of the link URLs on the currently loaded web page.
      *
+     * <p>The {@code href} attribute values of all the anchors are collected
+     * in a single JavaScript evaluation. If the script cannot be executed, for
+     * example because JavaScript is disabled, the anchors are analyzed
+     * through the DOM API one by one.
+     *
      * @implNote we find the links on the main frame document only. We skip
      * {@code IFRAME}s on the web page because very often they represent some
      * third-party widgets such as Google Analytics, social network widgets,
      * etc.
      */
     private Set<Link> links(Browser browser) {
+        return browser.mainFrame()
+                .flatMap(frame -> scriptLinks(frame, browser.url()))
+                .orElseGet(() -> domLinks(browser));
+    }
+
+    /**
+     * Collects the links of the given {@code frame} by evaluating
+     * {@link #COLLECT_HREFS_SCRIPT}.
+     *
+     * <p>Every DOM call goes to Chromium and back, so analyzing the anchors
+     * one by one costs two round trips per anchor. The script returns all the
+     * attribute values at once, joined into a single string.
+     *
+     * @return the links, or an empty {@code Optional} if the script could not
+     * be executed
+     */
+    private Optional<Set<Link>> scriptLinks(Frame frame, String pageUrl) {
+        Object hrefs;
+        try {
+            hrefs = frame.executeJavaScript(COLLECT_HREFS_SCRIPT);
+        } catch (IllegalStateException e) {
+            // The frame has been closed or navigated away.
+            return Optional.empty();
+        }
+        if (!(hrefs instanceof String)) {
+            return Optional.empty();
+        }
+        return Optional.of(linksOf((String) hrefs, pageUrl));
+    }
+
+    /**
+     * Converts the {@code href} attribute values joined by
+     * {@link #COLLECT_HREFS_SCRIPT} to a set of links.
+     *
+     * <p>The relative links are resolved against the given {@code pageUrl},
+     * and all the links are {@linkplain UrlNormalizer normalized}.
+     */
+    static Set<Link> linksOf(String hrefs, String pageUrl) {
+        UrlNormalizer normalizer = UrlNormalizer.forCurrentThread();
+        Set<Link> result = new HashSet<>();
+        for (String href : HREF_SPLITTER.split(hrefs)) {
+            normalizer.resolve(href, pageUrl)
+                    .ifPresent(url -> result.add(Link.of(url)));
+        }
+        return result;
+    }
+
+    /**
+     * Collects the links by analyzing the anchors through the DOM API.
+     */
+    private Set<Link> domLinks(Browser browser) {
+        UrlNormalizer normalizer = UrlNormalizer.forCurrentThread();
         Set<Link> result = new HashSet<>();
         browser.mainFrame().flatMap(Frame::document).ifPresent(document ->
                 // Collect the links by analyzing the HREF attribute of
@@ -151,8 +329,10 @@ public final class WebPageFactory {
                 document.findElementsByTagName("a").forEach(element -> {
                     try {
                         String href = element.attributes().get("href");
-                        toUrl(href, browser.url()).ifPresent(
-                                url -> result.add(Link.of(url)));
+                        if (href != null) {
+                            normalizer.resolve(href, browser.url())
+                                    .ifPresent(url -> result.add(Link.of(url)));
+                        }
                     } catch (IllegalStateException ignore) {
                         // DOM of a web page might be changed dynamically from
                         // JavaScript. The DOM HTML Element we analyze, might
@@ -164,59 +344,18 @@ public final class WebPageFactory {
     }
 
     /**
-     * Converts the given {@code href} attribute value to an absolute URL if
-     * possible.
-     *
-     * @param href    the {@code href} attribute value
-     * @param pageUrl the URL of the web page to resolve relative links
-     *
-     * @return an {@link Optional} instance that contains an absolute URL for
-     * the given {@code href} attribute value or an empty {@code Optional} if
-     * the given attribute contains the value that cannot be converted to an
-     * absolute URL that meets our needs
+     * A single attempt to navigate to a URL.
      */
-    private Optional<String> toUrl(String href, String pageUrl) {
-        checkNotNull(href);
-        checkNotNull(pageUrl);
+    private interface NavigationAttempt {
 
-        if (href.isEmpty()) {
-            return Optional.empty();
-        }
-        if (href.startsWith("#")) {
-            return Optional.empty();
-        }
-        if (href.startsWith("tel:")) {
-            return Optional.empty();
-        }
-        if (href.startsWith("mailto:")) {
-            return Optional.empty();
-        }
-        if (href.startsWith("javascript:")) {
-            return Optional.empty();
-        }
-        // Normalize URL.
-        String domain = topLevelUrl(pageUrl);
-        if (href.equals("/")) {
-            return Optional.of(domain);
-        }
-        // If it is a relative root URL, convert to a full URL.
-        if (href.startsWith("/")) {
-            href = domain + href;
-        }
-        // Remove "/" at the end of URL.
-        if (href.endsWith("/")) {
-            href = href.substring(0, href.length() - 1);
-        }
-        return Optional.of(href);
-    }
-
-    /**
-     * Returns the top level {@code [scheme]://[host]} address of the given
-     * {@code url}.
-     */
-    private String topLevelUrl(String url) {
-        checkNotNull(url);
-        URI uri = URI.create(url);
-        return uri.getScheme() + "://" + uri.getHost();
+        /**
+         * Navigates to the URL and returns the navigation status.
+         *
+         * @throws TimeoutException     if the web server did not respond in
+         *                              time
+         * @throws InterruptedException if the current thread is interrupted
+         *                              while waiting
+         */
+        NetError navigate() throws InterruptedException;
     }
 }